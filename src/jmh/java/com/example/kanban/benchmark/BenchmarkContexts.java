@@ -0,0 +1,41 @@
+package com.example.kanban.benchmark;
+
+import com.example.kanban.KanbanTaskManagerApplication;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(Map<String, Object> overrides) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url",
+            "jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.example.kanban", "WARN");
+        properties.putAll(overrides);
+        String[] args = properties.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+        return new SpringApplicationBuilder(KanbanTaskManagerApplication.class).run(args);
+    }
+
+    static UserAccount createUser(ConfigurableApplicationContext context, String username) {
+        UserAccount user = new UserAccount();
+        user.setUsername(username);
+        user.setPassword("{noop}benchmark");
+        user.setFullName("Benchmark " + username);
+        user.setEmail(username + "@bench.local");
+        return context.getBean(UserAccountRepository.class).save(user);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.kanban.benchmark;
+
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Builds a board spread evenly over the statuses, with dense positions and roughly every third
+     * task carrying a description and a due date, like a board filled through the UI.
+     */
+    static List<TaskResponse> board(int size) {
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+        int[] positions = new int[statuses.length];
+        Instant now = Instant.now();
+        LocalDate today = LocalDate.now();
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            TaskStatus status = statuses[i % statuses.length];
+            boolean detailed = i % 3 == 0;
+            tasks.add(new TaskResponse(
+                (long) i + 1,
+                "Tarefa de referencia numero " + i,
+                detailed ? "Descricao com acentuacao: revisao, migracao e validacao do item " + i : null,
+                status,
+                priorities[i % priorities.length],
+                positions[status.ordinal()]++,
+                detailed ? today.plusDays(i % 30) : null,
+                now.minusSeconds(i * 60L),
+                now
+            ));
+        }
+        return tasks;
+    }
+
+    static UserAccount owner() {
+        UserAccount user = new UserAccount();
+        user.setId(1L);
+        user.setUsername("benchmark");
+        user.setFullName("Usuario Benchmark");
+        user.setEmail("benchmark@bench.local");
+        return user;
+    }
+}
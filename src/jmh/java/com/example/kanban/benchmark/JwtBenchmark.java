@@ -0,0 +1,80 @@
+package com.example.kanban.benchmark;
+
+import com.example.kanban.config.JwtProperties;
+import com.example.kanban.security.JwtService;
+import io.jsonwebtoken.Claims;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Token issue and claim extraction. {@code extractClaimCached} repeats one token and is served
+ * from the verified-claims cache; {@code extractClaimVerified} cycles through more tokens than a
+ * one-entry cache can hold, so every call pays for signature verification and parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class JwtBenchmark {
+
+    private static final int TOKEN_POOL = 4096;
+
+    private JwtService cachingService;
+    private JwtService verifyingService;
+    private UserDetails user;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachingService = new JwtService(properties(10_000));
+        verifyingService = new JwtService(properties(1));
+        user = User.withUsername("benchmark").password("{noop}benchmark").roles("USER").build();
+        token = cachingService.generateToken(user);
+        tokens = new String[TOKEN_POOL];
+        for (int i = 0; i < TOKEN_POOL; i++) {
+            tokens[i] = verifyingService.generateToken(
+                User.withUsername("benchmark-" + i).password("{noop}benchmark").roles("USER").build()
+            );
+        }
+    }
+
+    private static JwtProperties properties(long claimsCacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("dGhpc0lzQW5FeHRyYUJhc2U2NFNlY3JldEtleU5vdFJlbGF5");
+        properties.setExpiration(TimeUnit.HOURS.toMillis(1));
+        properties.setClaimsCacheSize(claimsCacheSize);
+        return properties;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingService.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractClaimCached() {
+        return cachingService.extractClaim(token, Claims::getSubject);
+    }
+
+    @Benchmark
+    public String extractClaimVerified() {
+        String current = tokens[next];
+        next = (next + 1) % TOKEN_POOL;
+        return verifyingService.extractClaim(current, Claims::getSubject);
+    }
+}
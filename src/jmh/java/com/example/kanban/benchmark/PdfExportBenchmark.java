@@ -0,0 +1,50 @@
+package com.example.kanban.benchmark;
+
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.service.PdfExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders an in-memory board to PDF, isolating OpenPDF layout and encoding from database reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+public class PdfExportBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int tasks;
+
+    private PdfExportService pdfExportService;
+    private UserAccount owner;
+    private List<TaskResponse> board;
+
+    @Setup
+    public void setUp() {
+        pdfExportService = new PdfExportService(null, new SimpleMeterRegistry());
+        owner = BenchmarkData.owner();
+        board = BenchmarkData.board(tasks);
+    }
+
+    @Benchmark
+    public byte[] exportTasks() {
+        return pdfExportService.exportTasks(owner, board);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.kanban.benchmark;
+
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.KanbanTaskRepository;
+import com.example.kanban.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Measures create and list latency for a single owner whose TODO column holds {@code boardSize}
+ * tasks, with board reads served from the snapshot cache or from the database. Tasks created
+ * during an iteration are removed afterwards so the board size stays fixed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class TaskBoardGrowthBenchmark {
+
+    private static final int SEED_CHUNK = 1_000;
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int boardSize;
+
+    @Param({"DENSE", "SPARSE"})
+    public String mode;
+
+    @Param({"true", "false"})
+    public boolean boardCache;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private KanbanTaskRepository taskRepository;
+    private UserAccount owner;
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(Map.of(
+            "kanban.tasks.ordering.mode", mode,
+            "kanban.tasks.board-cache.enabled", String.valueOf(boardCache)
+        ));
+        taskService = context.getBean(TaskService.class);
+        taskRepository = context.getBean(KanbanTaskRepository.class);
+        owner = BenchmarkContexts.createUser(context, "growth");
+
+        boolean sparse = "SPARSE".equals(mode);
+        for (int start = 0; start < boardSize; start += SEED_CHUNK) {
+            List<KanbanTask> chunk = new ArrayList<>(SEED_CHUNK);
+            for (int i = start; i < Math.min(boardSize, start + SEED_CHUNK); i++) {
+                KanbanTask task = new KanbanTask();
+                task.setOwner(owner);
+                task.setTitle("Tarefa " + i);
+                task.setStatus(TaskStatus.TODO);
+                task.setPriority(TaskPriority.MEDIUM);
+                task.setPosition(sparse ? (i + 1) * 1024 : i);
+                chunk.add(task);
+            }
+            taskRepository.saveAll(chunk);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeCreatedTasks() {
+        taskRepository.deleteAllByIdInBatch(createdIds);
+        createdIds.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse createTask() {
+        TaskResponse response = taskService.createTask(owner, new TaskRequest("Nova tarefa", null, null, null));
+        createdIds.add(response.id());
+        return response;
+    }
+
+    @Benchmark
+    public Object listBoard() {
+        return taskService.listTasks(owner);
+    }
+
+    @Benchmark
+    public Object listFirstPage() {
+        return taskService.listTasksPage(owner, null, null, 50);
+    }
+}
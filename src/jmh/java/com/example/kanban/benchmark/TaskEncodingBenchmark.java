@@ -0,0 +1,96 @@
+package com.example.kanban.benchmark;
+
+import com.example.kanban.dto.TaskResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Encodes a board response in each representation the REST layer can negotiate, with mappers set
+ * up as in {@code BinaryEncodingConfig}. {@code JSON_GZIP} adds the deflate pass Tomcat applies
+ * above {@code server.compression.min-response-size}, at the same default level. The score is the
+ * CPU cost per board; {@code wireBytes / payloads} is the size of one response on the wire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class TaskEncodingBenchmark {
+
+    @Param({"1000", "10000"})
+    public int tasks;
+
+    @Param({"JSON", "JSON_GZIP", "CBOR", "SMILE"})
+    public String encoding;
+
+    private ObjectWriter writer;
+    private boolean gzip;
+    private List<TaskResponse> board;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class WireCounters {
+        public long payloads;
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloads = 0;
+            wireBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        ObjectMapper mapper = switch (encoding) {
+            case "JSON", "JSON_GZIP" -> builder.build();
+            case "CBOR" -> builder.factory(new CBORFactory()).build();
+            case "SMILE" -> builder.factory(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build()).build();
+            default -> throw new IllegalArgumentException("Unknown encoding " + encoding);
+        };
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, TaskResponse.class));
+        gzip = "JSON_GZIP".equals(encoding);
+        board = BenchmarkData.board(tasks);
+    }
+
+    @Benchmark
+    public byte[] encodeBoard(WireCounters counters) throws IOException {
+        byte[] body = writer.writeValueAsBytes(board);
+        if (gzip) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream out = new GZIPOutputStream(compressed, 8192)) {
+                out.write(body);
+            }
+            body = compressed.toByteArray();
+        }
+        counters.payloads++;
+        counters.wireBytes += body.length;
+        return body;
+    }
+}
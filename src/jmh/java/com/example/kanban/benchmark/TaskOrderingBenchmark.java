@@ -0,0 +1,128 @@
+package com.example.kanban.benchmark;
+
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.KanbanTaskRepository;
+import com.example.kanban.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Moves random cards inside one column, or between two columns, and counts the rows Hibernate
+ * writes per move, so DENSE (whole-column renumbering) and SPARSE (rank keys) can be compared as
+ * the column grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+public class TaskOrderingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int columnSize;
+
+    @Param({"DENSE", "SPARSE"})
+    public String mode;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private Statistics statistics;
+    private UserAccount owner;
+    private List<Long> taskIds;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class WriteCounters {
+        public long moves;
+        public long rowWrites;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            moves = 0;
+            rowWrites = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(Map.of(
+            "kanban.tasks.ordering.mode", mode,
+            "spring.jpa.properties.hibernate.generate_statistics", true,
+            "spring.jpa.properties.hibernate.jdbc.batch_size", 50
+        ));
+        taskService = context.getBean(TaskService.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        owner = BenchmarkContexts.createUser(context, "ordering");
+
+        boolean sparse = "SPARSE".equals(mode);
+        List<KanbanTask> tasks = new ArrayList<>(columnSize);
+        for (int i = 0; i < columnSize; i++) {
+            KanbanTask task = new KanbanTask();
+            task.setOwner(owner);
+            task.setTitle("Tarefa " + i);
+            task.setStatus(TaskStatus.TODO);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setPosition(sparse ? (i + 1) * 1024 : i);
+            tasks.add(task);
+        }
+        taskIds = context.getBean(KanbanTaskRepository.class).saveAll(tasks).stream()
+            .map(KanbanTask::getId)
+            .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object moveWithinColumn(WriteCounters counters) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+        long writesBefore = statistics.getEntityUpdateCount();
+        Object response = taskService.moveTask(taskId, owner,
+            new TaskMoveRequest(TaskStatus.TODO, random.nextInt(columnSize)));
+        counters.moves++;
+        counters.rowWrites += statistics.getEntityUpdateCount() - writesBefore;
+        return response;
+    }
+
+    @Benchmark
+    public Object moveAcrossColumns(WriteCounters counters) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+        TaskStatus target = random.nextBoolean() ? TaskStatus.TODO : TaskStatus.IN_PROGRESS;
+        long writesBefore = statistics.getEntityUpdateCount();
+        Object response = taskService.moveTask(taskId, owner,
+            new TaskMoveRequest(target, random.nextInt(columnSize)));
+        counters.moves++;
+        counters.rowWrites += statistics.getEntityUpdateCount() - writesBefore;
+        return response;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.kanban.loadtest;
+
+/**
+ * Operations a virtual user picks from, with the default share of the mix. Creates balance out
+ * deletes so boards keep roughly their seeded size over a long run.
+ */
+enum Endpoint {
+    LOGIN("login", "POST /api/auth/login", 5),
+    LIST("list", "GET /api/tasks", 52),
+    MOVE("move", "PATCH /api/tasks/{id}/move", 20),
+    UPDATE("update", "PUT /api/tasks/{id}", 10),
+    CREATE("create", "POST /api/tasks", 6),
+    DELETE("delete", "DELETE /api/tasks/{id}", 6),
+    EXPORT_PDF("pdf", "GET /api/tasks/export/pdf", 1);
+
+    private final String key;
+    private final String label;
+    private final int defaultWeight;
+
+    Endpoint(String key, String label, int defaultWeight) {
+        this.key = key;
+        this.label = label;
+        this.defaultWeight = defaultWeight;
+    }
+
+    String label() {
+        return label;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    boolean needsTask() {
+        return this == MOVE || this == UPDATE || this == DELETE;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Endpoint desconhecido no mix: " + key);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.kanban.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Keeps every latency sample of one endpoint so percentiles are exact rather than bucketed. A
+ * minute at a few thousand requests per second is a few megabytes, which is fine for a harness.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = latencyNanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized Summary summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Summary(
+            count,
+            errors,
+            elapsedSeconds > 0 ? count / elapsedSeconds : 0,
+            millis(percentile(sorted, 0.50)),
+            millis(percentile(sorted, 0.99)),
+            millis(percentile(sorted, 0.999)),
+            millis(count > 0 ? sorted[count - 1] : 0)
+        );
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    record Summary(
+        long count,
+        long errors,
+        double throughput,
+        double p50Millis,
+        double p99Millis,
+        double p999Millis,
+        double maxMillis
+    ) {
+    }
+}
@@ -0,0 +1,425 @@
+package com.example.kanban.loadtest;
+
+import com.example.kanban.KanbanTaskManagerApplication;
+import com.example.kanban.config.TaskOrderingProperties;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.KanbanTaskRepository;
+import com.example.kanban.repository.UserAccountRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Boots the application on a random port against a private in-memory H2 database, seeds users and
+ * tasks straight through the repositories, then drives the REST API from many virtual users and
+ * reports latency percentiles and throughput per endpoint.
+ *
+ * <p>With a target rate each virtual user follows a fixed schedule and latency is measured from
+ * the scheduled start, so time spent waiting behind a slow response counts against the endpoint
+ * instead of silently lowering the offered load.
+ *
+ * <p>With {@code threads=both} the scenario runs twice against fresh applications, once on
+ * Tomcat's platform thread pool and once with {@code spring.threads.virtual.enabled}, and the
+ * report sets their throughput and tail latency side by side.
+ */
+public final class LoadTest {
+
+    private static final String PASSWORD = "carga-senha-123";
+    private static final int SEED_CHUNK = 1_000;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Map<String, Run> runs = new LinkedHashMap<>();
+        for (String threads : options.threadModes()) {
+            runs.put(threads, run(options, threads));
+        }
+        report(options, runs);
+    }
+
+    private static Run run(LoadTestOptions options, String threads) {
+        try (ConfigurableApplicationContext context = start(options, threads)) {
+            long seedStart = System.nanoTime();
+            List<Board> boards = seed(context, options);
+            System.out.printf("[%s threads] Seeded %d users x %d tasks in %d ms%n",
+                threads, options.users(), options.tasksPerUser(), (System.nanoTime() - seedStart) / 1_000_000);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+            for (Endpoint endpoint : Endpoint.values()) {
+                recorders.put(endpoint, new LatencyRecorder());
+            }
+            LatencyRecorder total = new LatencyRecorder();
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+            long start = System.nanoTime();
+            long warmupEnd = start + options.warmup().toNanos();
+            long end = warmupEnd + options.duration().toNanos();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < options.virtualUsers(); i++) {
+                    VirtualUser user = new VirtualUser(
+                        client, "http://localhost:" + port, boards.get(i % boards.size()), options, recorders, total
+                    );
+                    executor.execute(() -> user.run(start, warmupEnd, end));
+                }
+            }
+            double seconds = options.duration().toNanos() / 1_000_000_000.0;
+            Map<String, LatencyRecorder.Summary> endpoints = new LinkedHashMap<>();
+            recorders.forEach((endpoint, recorder) -> endpoints.put(endpoint.label(), recorder.summarize(seconds)));
+            Collection<Timer> pinned = context.getBean(MeterRegistry.class).find("kanban.threads.virtual.pinned").timers();
+            return new Run(
+                endpoints,
+                total.summarize(seconds),
+                pinned.stream().mapToLong(Timer::count).sum(),
+                pinned.stream().mapToDouble(timer -> timer.totalTime(TimeUnit.MILLISECONDS)).sum()
+            );
+        }
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestOptions options, String threads) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url",
+            "jdbc:h2:mem:loadtest-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.example.kanban", "WARN");
+        properties.put("kanban.tasks.ordering.mode", options.orderingMode());
+        properties.put("spring.threads.virtual.enabled", "virtual".equals(threads));
+        String[] args = properties.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+        return new SpringApplicationBuilder(KanbanTaskManagerApplication.class).run(args);
+    }
+
+    /**
+     * Inserts users and their boards in chunks, spreading tasks over the columns with the
+     * positions the configured ordering mode expects. The password is hashed once and shared.
+     */
+    private static List<Board> seed(ConfigurableApplicationContext context, LoadTestOptions options) {
+        UserAccountRepository userRepository = context.getBean(UserAccountRepository.class);
+        KanbanTaskRepository taskRepository = context.getBean(KanbanTaskRepository.class);
+        TaskOrderingProperties ordering = context.getBean(TaskOrderingProperties.class);
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskPriority[] priorities = TaskPriority.values();
+
+        List<Board> boards = new ArrayList<>(options.users());
+        for (int u = 0; u < options.users(); u++) {
+            UserAccount owner = new UserAccount();
+            owner.setUsername("carga" + u);
+            owner.setPassword(passwordHash);
+            owner.setFullName("Usuario Carga " + u);
+            owner.setEmail("carga" + u + "@loadtest.local");
+            owner = userRepository.save(owner);
+            Board board = new Board(owner.getUsername());
+
+            int[] columnSizes = new int[statuses.length];
+            for (int chunkStart = 0; chunkStart < options.tasksPerUser(); chunkStart += SEED_CHUNK) {
+                List<KanbanTask> chunk = new ArrayList<>(SEED_CHUNK);
+                for (int i = chunkStart; i < Math.min(options.tasksPerUser(), chunkStart + SEED_CHUNK); i++) {
+                    TaskStatus status = statuses[i % statuses.length];
+                    int index = columnSizes[status.ordinal()]++;
+                    KanbanTask task = new KanbanTask();
+                    task.setOwner(owner);
+                    task.setTitle("Tarefa " + i);
+                    task.setDescription(i % 3 == 0 ? "Descricao da tarefa " + i : null);
+                    task.setStatus(status);
+                    task.setPriority(priorities[i % priorities.length]);
+                    task.setPosition(ordering.isSparse() ? (index + 1) * ordering.getGap() : index);
+                    chunk.add(task);
+                }
+                taskRepository.saveAll(chunk).forEach(saved -> board.add(saved.getId()));
+            }
+            boards.add(board);
+        }
+        return boards;
+    }
+
+    private static void report(LoadTestOptions options, Map<String, Run> runs) throws IOException {
+        runs.forEach((threads, run) -> {
+            System.out.printf("%n[%s threads]%n%-28s %9s %7s %9s %9s %9s %9s %9s%n", threads,
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+            run.endpoints().forEach(LoadTest::printRow);
+            printRow("total", run.total());
+            if (run.pinnedEvents() > 0) {
+                System.out.printf("pinned virtual threads: %d events, %.1f ms%n", run.pinnedEvents(), run.pinnedMillis());
+            }
+        });
+        if (runs.size() > 1) {
+            System.out.printf("%n%-28s %9s %7s %9s %9s %9s %9s %9s%n",
+                "threads (total)", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+            runs.forEach((threads, run) -> printRow(threads, run.total()));
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", options.users());
+        settings.put("tasksPerUser", options.tasksPerUser());
+        settings.put("virtualUsers", options.virtualUsers());
+        settings.put("warmup", options.warmup().toString());
+        settings.put("duration", options.duration().toString());
+        settings.put("targetRate", options.targetRate());
+        settings.put("ordering", options.orderingMode());
+        settings.put("threads", options.threadModes());
+        settings.put("mix", options.mix());
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("options", settings);
+        document.put("runs", runs);
+
+        if (options.report().getParent() != null) {
+            Files.createDirectories(options.report().getParent());
+        }
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(options.report().toFile(), document);
+        System.out.println("\nReport written to " + options.report().toAbsolutePath());
+    }
+
+    private static void printRow(String label, LatencyRecorder.Summary summary) {
+        System.out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+            label, summary.count(), summary.errors(), summary.throughput(),
+            summary.p50Millis(), summary.p99Millis(), summary.p999Millis(), summary.maxMillis());
+    }
+
+    /**
+     * Results of one scenario run; pinned counts come from the application's own monitor and stay
+     * zero on platform threads.
+     */
+    private record Run(
+        Map<String, LatencyRecorder.Summary> endpoints,
+        LatencyRecorder.Summary total,
+        long pinnedEvents,
+        double pinnedMillis
+    ) {
+    }
+
+    /**
+     * Task ids of one seeded user. Virtual users sharing a board take ids out before deleting so two
+     * of them never delete the same task, though a move may still race a delete and get a 404.
+     */
+    private static final class Board {
+
+        private final String username;
+        private final List<Long> taskIds = new ArrayList<>();
+
+        Board(String username) {
+            this.username = username;
+        }
+
+        synchronized void add(Long taskId) {
+            taskIds.add(taskId);
+        }
+
+        synchronized Long randomId(ThreadLocalRandom random) {
+            return taskIds.isEmpty() ? null : taskIds.get(random.nextInt(taskIds.size()));
+        }
+
+        synchronized Long takeRandomId(ThreadLocalRandom random) {
+            if (taskIds.isEmpty()) {
+                return null;
+            }
+            int index = random.nextInt(taskIds.size());
+            Long taskId = taskIds.get(index);
+            taskIds.set(index, taskIds.get(taskIds.size() - 1));
+            taskIds.remove(taskIds.size() - 1);
+            return taskId;
+        }
+
+        synchronized int size() {
+            return taskIds.size();
+        }
+    }
+
+    private static final class VirtualUser {
+
+        private final HttpClient client;
+        private final String baseUrl;
+        private final Board board;
+        private final LoadTestOptions options;
+        private final Map<Endpoint, LatencyRecorder> recorders;
+        private final LatencyRecorder total;
+        private final Endpoint[] weighted;
+        private String token;
+
+        VirtualUser(
+            HttpClient client,
+            String baseUrl,
+            Board board,
+            LoadTestOptions options,
+            Map<Endpoint, LatencyRecorder> recorders,
+            LatencyRecorder total
+        ) {
+            this.client = client;
+            this.baseUrl = baseUrl;
+            this.board = board;
+            this.options = options;
+            this.recorders = recorders;
+            this.total = total;
+            List<Endpoint> slots = new ArrayList<>();
+            options.mix().forEach((endpoint, weight) -> {
+                for (int i = 0; i < weight; i++) {
+                    slots.add(endpoint);
+                }
+            });
+            if (slots.isEmpty()) {
+                throw new IllegalArgumentException("Mix sem nenhum endpoint com peso positivo");
+            }
+            this.weighted = slots.toArray(Endpoint[]::new);
+        }
+
+        void run(long start, long warmupEnd, long end) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long interval = options.targetRate() > 0
+                ? (long) (1_000_000_000.0 * options.virtualUsers() / options.targetRate())
+                : 0;
+            try {
+                if (!login()) {
+                    throw new IllegalStateException("Login inicial falhou para " + board.username);
+                }
+                long next = Math.max(start, System.nanoTime()) + (interval > 0 ? random.nextLong(interval) : 0);
+                while (true) {
+                    long intended;
+                    if (interval > 0) {
+                        intended = next;
+                        next += interval;
+                        sleepUntil(intended);
+                    } else {
+                        intended = System.nanoTime();
+                    }
+                    if (intended >= end) {
+                        return;
+                    }
+                    Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+                    if (endpoint.needsTask() && board.size() == 0) {
+                        endpoint = Endpoint.CREATE;
+                    }
+                    boolean success;
+                    try {
+                        success = execute(endpoint, random);
+                    } catch (IOException ex) {
+                        success = false;
+                    }
+                    long latency = System.nanoTime() - intended;
+                    if (intended >= warmupEnd) {
+                        recorders.get(endpoint).record(latency, success);
+                        total.record(latency, success);
+                    }
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (IOException ex) {
+                throw new IllegalStateException("Login inicial falhou para " + board.username, ex);
+            }
+        }
+
+        private boolean execute(Endpoint endpoint, ThreadLocalRandom random) throws IOException, InterruptedException {
+            return switch (endpoint) {
+                case LOGIN -> login();
+                case LIST -> send(authorized("/api/tasks").GET()).statusCode() == 200;
+                case MOVE -> {
+                    Long taskId = board.randomId(random);
+                    TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+                    int position = random.nextInt(Math.max(1, board.size() / TaskStatus.values().length));
+                    yield send(authorized("/api/tasks/" + taskId + "/move")
+                        .method("PATCH", json(Map.of("status", status, "newPosition", position))))
+                        .statusCode() == 200;
+                }
+                case UPDATE -> {
+                    Long taskId = board.randomId(random);
+                    TaskPriority priority = TaskPriority.values()[random.nextInt(TaskPriority.values().length)];
+                    yield send(authorized("/api/tasks/" + taskId)
+                        .PUT(json(Map.of("title", "Tarefa revisada " + random.nextInt(1000), "priority", priority))))
+                        .statusCode() == 200;
+                }
+                case CREATE -> {
+                    HttpResponse<String> response = client.send(
+                        authorized("/api/tasks").POST(json(Map.of("title", "Tarefa de carga"))).build(),
+                        HttpResponse.BodyHandlers.ofString()
+                    );
+                    if (response.statusCode() != 201) {
+                        yield false;
+                    }
+                    board.add(MAPPER.readTree(response.body()).path("id").asLong());
+                    yield true;
+                }
+                case DELETE -> {
+                    Long taskId = board.takeRandomId(random);
+                    yield send(authorized("/api/tasks/" + taskId).DELETE()).statusCode() == 204;
+                }
+                case EXPORT_PDF -> send(authorized("/api/tasks/export/pdf").GET()).statusCode() == 200;
+            };
+        }
+
+        private boolean login() throws IOException, InterruptedException {
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(json(Map.of("username", board.username, "password", PASSWORD)))
+                    .build(),
+                HttpResponse.BodyHandlers.ofString()
+            );
+            if (response.statusCode() != 200) {
+                return false;
+            }
+            JsonNode body = MAPPER.readTree(response.body());
+            token = body.path("accessToken").asText();
+            return true;
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+        }
+
+        private HttpResponse<Void> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+            return client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        }
+
+        private static HttpRequest.BodyPublisher json(Object body) throws IOException {
+            return HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body));
+        }
+
+        private static void sleepUntil(long deadline) throws InterruptedException {
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.kanban.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Run settings, read from {@code key=value} program arguments. {@code rate} is the total target
+ * request rate across all virtual users; 0 runs closed-loop, each user firing as soon as the
+ * previous response arrives. {@code mix} overrides endpoint weights, e.g. {@code list:80,move:20}.
+ * {@code threads} picks request threads for the application ({@code platform}, {@code virtual}, or
+ * {@code both} to run the same scenario once per mode and compare).
+ */
+record LoadTestOptions(
+    int users,
+    int tasksPerUser,
+    int virtualUsers,
+    Duration warmup,
+    Duration duration,
+    double targetRate,
+    String orderingMode,
+    List<String> threadModes,
+    Map<Endpoint, Integer> mix,
+    Path report
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Argumento invalido (use chave=valor): " + arg);
+            }
+            values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+        int users = Integer.parseInt(values.getOrDefault("users", "50"));
+        LoadTestOptions options = new LoadTestOptions(
+            users,
+            Integer.parseInt(values.getOrDefault("tasks", "200")),
+            Integer.parseInt(values.getOrDefault("virtualUsers", String.valueOf(users))),
+            DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+            DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+            Double.parseDouble(values.getOrDefault("rate", "0")),
+            values.getOrDefault("ordering", "SPARSE"),
+            parseThreads(values.getOrDefault("threads", "platform")),
+            parseMix(values.get("mix")),
+            Path.of(values.getOrDefault("report", "target/loadtest-report.json"))
+        );
+        if (options.users() < 1 || options.virtualUsers() < 1 || options.duration().isNegative()
+            || options.duration().isZero() || options.targetRate() < 0) {
+            throw new IllegalArgumentException("users, virtualUsers e duration devem ser positivos e rate >= 0");
+        }
+        return options;
+    }
+
+    private static List<String> parseThreads(String spec) {
+        if ("both".equalsIgnoreCase(spec)) {
+            return List.of("platform", "virtual");
+        }
+        List<String> modes = new ArrayList<>();
+        for (String mode : spec.split(",")) {
+            String normalized = mode.trim().toLowerCase(Locale.ROOT);
+            if (!normalized.equals("platform") && !normalized.equals("virtual")) {
+                throw new IllegalArgumentException("threads deve ser platform, virtual ou both: " + spec);
+            }
+            modes.add(normalized);
+        }
+        return modes;
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String spec) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            mix.put(endpoint, endpoint.defaultWeight());
+        }
+        if (spec == null || spec.isBlank()) {
+            return mix;
+        }
+        mix.replaceAll((endpoint, weight) -> 0);
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada de mix invalida: " + entry);
+            }
+            mix.put(Endpoint.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return mix;
+    }
+}
@@ -1,12 +1,40 @@
 package com.example.kanban;
 
+import com.example.kanban.config.BoardCacheProperties;
+import com.example.kanban.config.EventStreamProperties;
+import com.example.kanban.config.ExportProperties;
 import com.example.kanban.config.JwtProperties;
+import com.example.kanban.config.PasswordHashingProperties;
+import com.example.kanban.config.PrincipalCacheProperties;
+import com.example.kanban.config.SqlAccountingProperties;
+import com.example.kanban.config.SyncProperties;
+import com.example.kanban.config.TaskConcurrencyProperties;
+import com.example.kanban.config.TaskImportProperties;
+import com.example.kanban.config.TaskOrderingProperties;
+import com.example.kanban.config.TaskSearchProperties;
+import com.example.kanban.config.VirtualThreadProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({
+    JwtProperties.class,
+    TaskOrderingProperties.class,
+    PrincipalCacheProperties.class,
+    ExportProperties.class,
+    SyncProperties.class,
+    EventStreamProperties.class,
+    SqlAccountingProperties.class,
+    TaskConcurrencyProperties.class,
+    BoardCacheProperties.class,
+    VirtualThreadProperties.class,
+    PasswordHashingProperties.class,
+    TaskSearchProperties.class,
+    TaskImportProperties.class
+})
+@EnableScheduling
 public class KanbanTaskManagerApplication {
 
     public static void main(String[] args) {
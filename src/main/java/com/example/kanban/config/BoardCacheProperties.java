@@ -0,0 +1,53 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.tasks.board-cache")
+public class BoardCacheProperties {
+
+    /**
+     * When disabled every board read goes to the database.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Memory budget for all cached boards together, measured on their encoded size.
+     */
+    @NotNull
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Boards not read or written for this long are dropped regardless of the budget.
+     */
+    @NotNull
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
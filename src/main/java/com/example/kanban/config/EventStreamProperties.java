@@ -0,0 +1,70 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.events")
+public class EventStreamProperties {
+
+    @Positive
+    private int maxConnections = 1000;
+
+    /**
+     * Distinct tasks buffered per connection before the backlog is replaced by a resync event.
+     */
+    @Positive
+    private int maxPendingEvents = 256;
+
+    @NotNull
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    @NotNull
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    @NotNull
+    private Duration connectionTimeout = Duration.ofMinutes(30);
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMaxPendingEvents() {
+        return maxPendingEvents;
+    }
+
+    public void setMaxPendingEvents(int maxPendingEvents) {
+        this.maxPendingEvents = maxPendingEvents;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public Duration getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    public void setHeartbeatInterval(Duration heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+}
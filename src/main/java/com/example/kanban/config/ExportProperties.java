@@ -0,0 +1,80 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.export")
+public class ExportProperties {
+
+    @Positive
+    private int maxConcurrentJobs = 2;
+
+    @Min(0)
+    private int maxQueuedJobs = 20;
+
+    @Positive
+    private int maxRetainedJobsPerOwner = 5;
+
+    @NotNull
+    private Duration resultTtl = Duration.ofMinutes(15);
+
+    @NotBlank
+    private String spoolDirectory = System.getProperty("java.io.tmpdir") + "/kanban-exports";
+
+    @Positive
+    private int fetchSize = 500;
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public int getMaxQueuedJobs() {
+        return maxQueuedJobs;
+    }
+
+    public void setMaxQueuedJobs(int maxQueuedJobs) {
+        this.maxQueuedJobs = maxQueuedJobs;
+    }
+
+    public int getMaxRetainedJobsPerOwner() {
+        return maxRetainedJobsPerOwner;
+    }
+
+    public void setMaxRetainedJobsPerOwner(int maxRetainedJobsPerOwner) {
+        this.maxRetainedJobsPerOwner = maxRetainedJobsPerOwner;
+    }
+
+    public Duration getResultTtl() {
+        return resultTtl;
+    }
+
+    public void setResultTtl(Duration resultTtl) {
+        this.resultTtl = resultTtl;
+    }
+
+    public String getSpoolDirectory() {
+        return spoolDirectory;
+    }
+
+    public void setSpoolDirectory(String spoolDirectory) {
+        this.spoolDirectory = spoolDirectory;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+}
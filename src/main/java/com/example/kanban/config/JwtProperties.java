@@ -15,6 +15,9 @@ public class JwtProperties {
     @Positive
     private long expiration;
 
+    @Positive
+    private long claimsCacheSize = 10_000;
+
     public String getSecret() {
         return secret;
     }
@@ -30,4 +33,12 @@ public class JwtProperties {
     public void setExpiration(long expiration) {
         this.expiration = expiration;
     }
+
+    public long getClaimsCacheSize() {
+        return claimsCacheSize;
+    }
+
+    public void setClaimsCacheSize(long claimsCacheSize) {
+        this.claimsCacheSize = claimsCacheSize;
+    }
 }
@@ -0,0 +1,58 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.security.password")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt log2 work factor for new hashes. Raising it rehashes weaker stored hashes on the
+     * user's next login; lowering it leaves existing hashes valid as they are.
+     */
+    @Min(4)
+    @Max(31)
+    private int strength = 10;
+
+    /**
+     * Threads that hash passwords. Kept below the core count so a login storm cannot take every
+     * core away from the rest of the API.
+     */
+    @Positive
+    private int hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Hash requests allowed to wait for a thread; beyond this, logins and registrations are
+     * refused with 503 instead of queueing.
+     */
+    @Min(0)
+    private int maxQueued = 64;
+
+    public int getStrength() {
+        return strength;
+    }
+
+    public void setStrength(int strength) {
+        this.strength = strength;
+    }
+
+    public int getHashThreads() {
+        return hashThreads;
+    }
+
+    public void setHashThreads(int hashThreads) {
+        this.hashThreads = hashThreads;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.sql")
+public class SqlAccountingProperties {
+
+    /**
+     * Counts and times the statements each HTTP request and each TaskService call issues.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Requests issuing more statements than this are reported as over budget.
+     */
+    @Positive
+    private int statementBudget = 15;
+
+    /**
+     * The same statement prepared at least this many times in one request is reported as a
+     * likely N+1.
+     */
+    @Min(2)
+    private int repeatThreshold = 5;
+
+    /**
+     * Share of offending requests that are logged; all of them are still counted in metrics.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double logSampleRate = 0.1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public void setStatementBudget(int statementBudget) {
+        this.statementBudget = statementBudget;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    public void setRepeatThreshold(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public double getLogSampleRate() {
+        return logSampleRate;
+    }
+
+    public void setLogSampleRate(double logSampleRate) {
+        this.logSampleRate = logSampleRate;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.sync")
+public class SyncProperties {
+
+    /**
+     * How long delete tombstones are kept. Watermarks older than this force a full resync.
+     */
+    @NotNull
+    private Duration tombstoneRetention = Duration.ofDays(7);
+
+    public Duration getTombstoneRetention() {
+        return tombstoneRetention;
+    }
+
+    public void setTombstoneRetention(Duration tombstoneRetention) {
+        this.tombstoneRetention = tombstoneRetention;
+    }
+}
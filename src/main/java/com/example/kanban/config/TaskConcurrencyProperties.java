@@ -0,0 +1,70 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.tasks.concurrency")
+public class TaskConcurrencyProperties {
+
+    /**
+     * Number of in-process locks that (owner, column) pairs are hashed onto; rounded up to a
+     * power of two.
+     */
+    @Positive
+    private int lockStripes = 1024;
+
+    /**
+     * How long a mutation waits for its column locks before failing with 503.
+     */
+    @NotNull
+    private Duration lockTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Attempts per mutation, first one included, when an optimistic version check fails.
+     */
+    @Min(1)
+    private int maxAttempts = 3;
+
+    /**
+     * Base pause between attempts; grows linearly with the attempt number, plus jitter.
+     */
+    @NotNull
+    private Duration retryBackoff = Duration.ofMillis(10);
+
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
+    public Duration getLockTimeout() {
+        return lockTimeout;
+    }
+
+    public void setLockTimeout(Duration lockTimeout) {
+        this.lockTimeout = lockTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    public void setRetryBackoff(Duration retryBackoff) {
+        this.retryBackoff = retryBackoff;
+    }
+}
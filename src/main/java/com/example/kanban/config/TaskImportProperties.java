@@ -0,0 +1,54 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.tasks.import")
+public class TaskImportProperties {
+
+    /**
+     * Valid records committed per transaction; each chunk is one board revision.
+     */
+    @Min(1)
+    @Max(10_000)
+    private int chunkSize = 1_000;
+
+    /**
+     * Rejected lines listed in the response; further rejections are only counted.
+     */
+    @Min(0)
+    private int maxReportedErrors = 100;
+
+    /**
+     * Longest record accepted, in characters; longer ones are rejected without being buffered.
+     */
+    @Min(256)
+    private int maxRecordLength = 16_384;
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getMaxReportedErrors() {
+        return maxReportedErrors;
+    }
+
+    public void setMaxReportedErrors(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public int getMaxRecordLength() {
+        return maxRecordLength;
+    }
+
+    public void setMaxRecordLength(int maxRecordLength) {
+        this.maxRecordLength = maxRecordLength;
+    }
+}
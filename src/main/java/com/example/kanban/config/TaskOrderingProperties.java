@@ -0,0 +1,46 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.tasks.ordering")
+public class TaskOrderingProperties {
+
+    /**
+     * DENSE keeps positions as 0..n-1 and renumbers the column on every move/delete.
+     * SPARSE stores gap-based rank keys and only writes the moved row.
+     */
+    public enum Mode {
+        DENSE,
+        SPARSE
+    }
+
+    @NotNull
+    private Mode mode = Mode.DENSE;
+
+    @Min(2)
+    private int gap = 1024;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getGap() {
+        return gap;
+    }
+
+    public void setGap(int gap) {
+        this.gap = gap;
+    }
+
+    public boolean isSparse() {
+        return mode == Mode.SPARSE;
+    }
+}
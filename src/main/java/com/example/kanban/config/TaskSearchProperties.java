@@ -0,0 +1,40 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "kanban.tasks.search")
+public class TaskSearchProperties {
+
+    /**
+     * Memory budget for all search indexes together, measured on their estimated heap footprint.
+     */
+    @NotNull
+    private DataSize maxSize = DataSize.ofMegabytes(32);
+
+    /**
+     * Indexes not searched or written for this long are dropped and rebuilt on the next search.
+     */
+    @NotNull
+    private Duration idleTimeout = Duration.ofMinutes(30);
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+}
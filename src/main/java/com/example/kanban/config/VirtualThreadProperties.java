@@ -0,0 +1,42 @@
+package com.example.kanban.config;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings that only apply with {@code spring.threads.virtual.enabled=true}.
+ */
+@Validated
+@ConfigurationProperties(prefix = "kanban.threads.virtual")
+public class VirtualThreadProperties {
+
+    /**
+     * Virtual threads blocked while pinned to their carrier for at least this long are recorded.
+     */
+    @NotNull
+    private Duration pinnedThreshold = Duration.ofMillis(20);
+
+    /**
+     * Caps an H2 connection pool at the number of carrier threads; the H2 driver synchronizes on
+     * its session, so a statement pins its carrier for as long as it runs.
+     */
+    private boolean capH2Pool = true;
+
+    public Duration getPinnedThreshold() {
+        return pinnedThreshold;
+    }
+
+    public void setPinnedThreshold(Duration pinnedThreshold) {
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    public boolean isCapH2Pool() {
+        return capH2Pool;
+    }
+
+    public void setCapH2Pool(boolean capH2Pool) {
+        this.capH2Pool = capH2Pool;
+    }
+}
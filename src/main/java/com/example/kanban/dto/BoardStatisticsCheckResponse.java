@@ -0,0 +1,11 @@
+package com.example.kanban.dto;
+
+import java.util.Map;
+
+public record BoardStatisticsCheckResponse(
+    boolean consistent,
+    BoardStatisticsResponse stored,
+    BoardStatisticsResponse actual,
+    Map<String, Long> drift
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import java.time.LocalDate;
+import java.util.Map;
+
+public record BoardStatisticsResponse(
+    Map<TaskStatus, Long> byStatus,
+    Map<TaskPriority, Long> byPriority,
+    long total,
+    long overdue,
+    LocalDate overdueAsOf
+) {
+}
@@ -0,0 +1,13 @@
+package com.example.kanban.dto;
+
+import java.time.Instant;
+
+public record ExportJobResponse(
+    String id,
+    String status,
+    Instant createdAt,
+    Instant completedAt,
+    Long sizeBytes,
+    String error
+) {
+}
@@ -0,0 +1,24 @@
+package com.example.kanban.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One step of a batch: {@code task} carries the fields for CREATE, {@code changes} for UPDATE and
+ * {@code move} for MOVE; every type except CREATE needs {@code taskId}.
+ */
+public record TaskBatchOperation(
+    @NotNull Type type,
+    Long taskId,
+    @Valid TaskRequest task,
+    @Valid TaskUpdateRequest changes,
+    @Valid TaskMoveRequest move
+) {
+
+    public enum Type {
+        CREATE,
+        UPDATE,
+        MOVE,
+        DELETE
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.kanban.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record TaskBatchRequest(
+    @NotEmpty @Size(max = 500) List<@Valid @NotNull TaskBatchOperation> operations
+) {
+}
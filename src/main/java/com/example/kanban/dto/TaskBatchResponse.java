@@ -0,0 +1,9 @@
+package com.example.kanban.dto;
+
+import java.util.List;
+
+public record TaskBatchResponse(
+    List<TaskBatchResult> results,
+    long revision
+) {
+}
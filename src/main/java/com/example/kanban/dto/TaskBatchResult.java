@@ -0,0 +1,13 @@
+package com.example.kanban.dto;
+
+/**
+ * Outcome of one batch operation; {@code task} is the task's state once the whole batch has been
+ * applied, or null when it ended up deleted.
+ */
+public record TaskBatchResult(
+    int index,
+    TaskBatchOperation.Type type,
+    Long taskId,
+    TaskResponse task
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.kanban.dto;
+
+import java.util.List;
+
+public record TaskChangesResponse(
+    List<TaskResponse> changed,
+    List<Long> deletedIds,
+    String watermark,
+    boolean resyncRequired
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.kanban.dto;
+
+import java.util.Map;
+
+public record TaskImportError(
+    long line,
+    String message,
+    Map<String, String> fieldErrors
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.kanban.dto;
+
+import java.util.List;
+
+public record TaskImportResponse(
+    int imported,
+    int rejected,
+    int chunks,
+    List<TaskImportError> errors,
+    boolean errorsTruncated
+) {
+}
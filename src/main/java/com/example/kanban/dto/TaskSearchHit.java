@@ -0,0 +1,15 @@
+package com.example.kanban.dto;
+
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import java.time.LocalDate;
+
+public record TaskSearchHit(
+    Long id,
+    String title,
+    TaskStatus status,
+    TaskPriority priority,
+    LocalDate dueDate,
+    int score
+) {
+}
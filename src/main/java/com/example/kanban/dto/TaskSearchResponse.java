@@ -0,0 +1,11 @@
+package com.example.kanban.dto;
+
+import java.util.List;
+
+public record TaskSearchResponse(
+    List<TaskSearchHit> items,
+    int total,
+    int page,
+    int size
+) {
+}
@@ -0,0 +1,98 @@
+package com.example.kanban.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Per-owner task counters kept in step with the board by every mutation, so dashboards read one
+ * row instead of the tasks. Derived data: it can always be rebuilt from {@code kanban_tasks}.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "board_statistics")
+@ToString
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class BoardStatistics {
+
+    @Id
+    @Column(name = "owner_id")
+    @EqualsAndHashCode.Include
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private long todoCount;
+
+    @Column(nullable = false)
+    private long inProgressCount;
+
+    @Column(nullable = false)
+    private long doneCount;
+
+    @Column(nullable = false)
+    private long lowCount;
+
+    @Column(nullable = false)
+    private long mediumCount;
+
+    @Column(nullable = false)
+    private long highCount;
+
+    /**
+     * Open tasks due before {@link #overdueAsOf}. Tasks become overdue as days pass without any
+     * write, so the count is only maintained within that day and recounted on the next one.
+     */
+    @Column(nullable = false)
+    private long overdueCount;
+
+    @Column(nullable = false)
+    private LocalDate overdueAsOf;
+
+    private Instant rebuiltAt;
+
+    public BoardStatistics(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public long count(TaskStatus status) {
+        return switch (status) {
+            case TODO -> todoCount;
+            case IN_PROGRESS -> inProgressCount;
+            case DONE -> doneCount;
+        };
+    }
+
+    public long count(TaskPriority priority) {
+        return switch (priority) {
+            case LOW -> lowCount;
+            case MEDIUM -> mediumCount;
+            case HIGH -> highCount;
+        };
+    }
+
+    public void setCount(TaskStatus status, long count) {
+        switch (status) {
+            case TODO -> todoCount = count;
+            case IN_PROGRESS -> inProgressCount = count;
+            case DONE -> doneCount = count;
+        }
+    }
+
+    public void setCount(TaskPriority priority, long count) {
+        switch (priority) {
+            case LOW -> lowCount = count;
+            case MEDIUM -> mediumCount = count;
+            case HIGH -> highCount = count;
+        }
+    }
+}
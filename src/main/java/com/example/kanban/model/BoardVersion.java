@@ -0,0 +1,34 @@
+package com.example.kanban.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "board_versions")
+@ToString
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class BoardVersion {
+
+    @Id
+    @Column(name = "owner_id")
+    @EqualsAndHashCode.Include
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private long version;
+
+    public BoardVersion(Long ownerId, long version) {
+        this.ownerId = ownerId;
+        this.version = version;
+    }
+}
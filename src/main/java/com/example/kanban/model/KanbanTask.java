@@ -8,10 +8,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.Instant;
 import java.time.LocalDate;
 import lombok.EqualsAndHashCode;
@@ -24,13 +27,20 @@ import org.hibernate.annotations.UpdateTimestamp;
 @Getter
 @Setter
 @Entity
-@Table(name = "kanban_tasks")
+@Table(
+    name = "kanban_tasks",
+    indexes = {
+        @Index(name = "idx_kanban_tasks_owner_status_position", columnList = "owner_id, status, position, id"),
+        @Index(name = "idx_kanban_tasks_owner_revision", columnList = "owner_id, revision")
+    }
+)
 @ToString(exclude = "owner")
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class KanbanTask {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "kanban_tasks_seq")
+    @SequenceGenerator(name = "kanban_tasks_seq", sequenceName = "kanban_tasks_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -57,6 +67,17 @@ public class KanbanTask {
 
     private LocalDate dueDate;
 
+    /**
+     * Board version of the last write that touched this row; drives delta sync.
+     */
+    private Long revision;
+
+    /**
+     * Optimistic lock: a write based on a stale read of this row fails instead of overwriting it.
+     */
+    @Version
+    private Long version;
+
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private Instant createdAt;
@@ -0,0 +1,56 @@
+package com.example.kanban.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+@Getter
+@Setter
+@Entity
+@Table(
+    name = "task_tombstones",
+    indexes = {
+        @Index(name = "idx_task_tombstones_owner_revision", columnList = "owner_id, revision"),
+        @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at")
+    }
+)
+@ToString
+@NoArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant deletedAt;
+
+    public TaskTombstone(Long ownerId, Long taskId, long revision) {
+        this.ownerId = ownerId;
+        this.taskId = taskId;
+        this.revision = revision;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.model.BoardStatistics;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardStatisticsRepository extends JpaRepository<BoardStatistics, Long> {
+
+    /**
+     * Adds one mutation's deltas in a single statement. The overdue delta only applies while the
+     * stored count is for {@code today}; a stale count is recounted on read instead.
+     */
+    @Modifying
+    @Query("""
+        update BoardStatistics s set
+            s.todoCount = s.todoCount + :todo,
+            s.inProgressCount = s.inProgressCount + :inProgress,
+            s.doneCount = s.doneCount + :done,
+            s.lowCount = s.lowCount + :low,
+            s.mediumCount = s.mediumCount + :medium,
+            s.highCount = s.highCount + :high,
+            s.overdueCount = case when s.overdueAsOf = :today then s.overdueCount + :overdue else s.overdueCount end
+        where s.ownerId = :ownerId
+        """)
+    int addDeltas(
+        @Param("ownerId") Long ownerId,
+        @Param("todo") long todo,
+        @Param("inProgress") long inProgress,
+        @Param("done") long done,
+        @Param("low") long low,
+        @Param("medium") long medium,
+        @Param("high") long high,
+        @Param("overdue") long overdue,
+        @Param("today") LocalDate today
+    );
+}
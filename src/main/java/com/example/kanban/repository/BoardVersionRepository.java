@@ -0,0 +1,28 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.model.BoardVersion;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardVersionRepository extends JpaRepository<BoardVersion, Long> {
+
+    @Query("select b.version from BoardVersion b where b.ownerId = :ownerId")
+    Optional<Long> findVersion(@Param("ownerId") Long ownerId);
+
+    /**
+     * Takes the same row lock {@link #increment} does, holding off the owner's mutations without
+     * bumping the version.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from BoardVersion b where b.ownerId = :ownerId")
+    Optional<BoardVersion> lockVersion(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query("update BoardVersion b set b.version = b.version + 1 where b.ownerId = :ownerId")
+    int increment(@Param("ownerId") Long ownerId);
+}
@@ -1,19 +1,204 @@
 package com.example.kanban.repository;
 
+import com.example.kanban.dto.TaskResponse;
 import com.example.kanban.model.KanbanTask;
 import com.example.kanban.model.TaskStatus;
 import com.example.kanban.model.UserAccount;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface KanbanTaskRepository extends JpaRepository<KanbanTask, Long> {
 
-    List<KanbanTask> findAllByOwnerOrderByStatusAscPositionAsc(UserAccount owner);
-
     List<KanbanTask> findAllByOwnerAndStatusOrderByPosition(UserAccount owner, TaskStatus status);
 
+    /**
+     * Read-only board projection: rows go straight into {@link TaskResponse} without entering the
+     * persistence context. {@code position} carries the stored rank; callers turn it into the
+     * dense per-column index.
+     */
+    @Query("""
+        select new com.example.kanban.dto.TaskResponse(
+            t.id, t.title, t.description, t.status, t.priority,
+            t.position,
+            t.dueDate, t.createdAt, t.updatedAt)
+        from KanbanTask t
+        where t.owner = :owner
+        order by t.status, t.position, t.id
+        """)
+    List<TaskResponse> findBoardView(@Param("owner") UserAccount owner);
+
+    @Query("select t from KanbanTask t where t.owner = :owner order by t.status, t.position, t.id")
+    List<KanbanTask> findPageByOwner(@Param("owner") UserAccount owner, Pageable pageable);
+
+    @Query("""
+        select t from KanbanTask t
+        where t.owner = :owner
+          and (t.status > :status or (t.status = :status and (t.position, t.id) > (:position, :id)))
+        order by t.status, t.position, t.id
+        """)
+    List<KanbanTask> findPageByOwnerAfter(
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status,
+        @Param("position") Integer position,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    @Query("select t from KanbanTask t where t.owner = :owner and t.status = :status order by t.position, t.id")
+    List<KanbanTask> findPageByOwnerAndStatus(
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status,
+        Pageable pageable
+    );
+
+    @Query("""
+        select t from KanbanTask t
+        where t.owner = :owner and t.status = :status and (t.position, t.id) > (:position, :id)
+        order by t.position, t.id
+        """)
+    List<KanbanTask> findPageByOwnerAndStatusAfter(
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status,
+        @Param("position") Integer position,
+        @Param("id") Long id,
+        Pageable pageable
+    );
+
+    /**
+     * Rows written in revisions {@code (since, upTo]} as projections; {@code position} carries the
+     * stored value, which is already the dense index in DENSE mode.
+     */
+    @Query("""
+        select new com.example.kanban.dto.TaskResponse(
+            t.id, t.title, t.description, t.status, t.priority,
+            t.position,
+            t.dueDate, t.createdAt, t.updatedAt)
+        from KanbanTask t
+        where t.owner = :owner and t.revision > :since and t.revision <= :upTo
+        order by t.status, t.position, t.id
+        """)
+    List<TaskResponse> findChangedViewBetween(
+        @Param("owner") UserAccount owner,
+        @Param("since") long since,
+        @Param("upTo") long upTo
+    );
+
+    /**
+     * Same rows for SPARSE mode, with each rank turned into the dense per-column index in the same
+     * statement: one correlated count per changed row, answered from the (owner, status, position)
+     * index.
+     */
+    @Query("""
+        select new com.example.kanban.dto.TaskResponse(
+            t.id, t.title, t.description, t.status, t.priority,
+            cast((select count(o) from KanbanTask o
+                  where o.owner = t.owner and o.status = t.status and o.position < t.position) as Integer),
+            t.dueDate, t.createdAt, t.updatedAt)
+        from KanbanTask t
+        where t.owner = :owner and t.revision > :since and t.revision <= :upTo
+        order by t.status, t.position, t.id
+        """)
+    List<TaskResponse> findChangedRankedViewBetween(
+        @Param("owner") UserAccount owner,
+        @Param("since") long since,
+        @Param("upTo") long upTo
+    );
+
     Optional<KanbanTask> findByIdAndOwner(Long id, UserAccount owner);
 
+    @Query("select t.status from KanbanTask t where t.id = :id and t.owner = :owner")
+    Optional<TaskStatus> findStatusByIdAndOwner(@Param("id") Long id, @Param("owner") UserAccount owner);
+
+    List<KanbanTask> findAllByOwnerAndIdIn(UserAccount owner, Collection<Long> ids);
+
+    @Query("""
+        select t from KanbanTask t
+        where t.owner = :owner and t.status in :statuses
+        order by t.status, t.position, t.id
+        """)
+    List<KanbanTask> findColumns(@Param("owner") UserAccount owner, @Param("statuses") Collection<TaskStatus> statuses);
+
     int countByOwnerAndStatus(UserAccount owner, TaskStatus status);
+
+    /**
+     * Rows of {@code status, priority, count}, one per combination present on the board.
+     */
+    @Query("""
+        select t.status, t.priority, count(t) from KanbanTask t
+        where t.owner = :owner
+        group by t.status, t.priority
+        """)
+    List<Object[]> countByStatusAndPriority(@Param("owner") UserAccount owner);
+
+    @Query("""
+        select count(t) from KanbanTask t
+        where t.owner = :owner and t.dueDate < :today and t.status <> com.example.kanban.model.TaskStatus.DONE
+        """)
+    long countOverdue(@Param("owner") UserAccount owner, @Param("today") LocalDate today);
+
+    int countByOwnerAndStatusAndPositionLessThan(UserAccount owner, TaskStatus status, Integer position);
+
+    /**
+     * Reads the column tail off idx_kanban_tasks_owner_status_position. Ordering on the whole index
+     * key, equality columns included, lets the database walk the index backwards and stop at the
+     * first entry instead of aggregating or counting the column.
+     */
+    @Query("""
+        select t.position from KanbanTask t
+        where t.owner = :owner and t.status = :status
+        order by t.owner.id desc, t.status desc, t.position desc, t.id desc
+        """)
+    List<Integer> findTailPositions(
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status,
+        Pageable pageable
+    );
+
+    @Query("""
+        select t.position from KanbanTask t
+        where t.owner = :owner and t.status = :status and t.id <> :excludedId
+        order by t.owner.id desc, t.status desc, t.position desc, t.id desc
+        """)
+    List<Integer> findTailPositionsExcluding(
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status,
+        @Param("excludedId") Long excludedId,
+        Pageable pageable
+    );
+
+    @Query("""
+        select t.position from KanbanTask t
+        where t.owner = :owner and t.status = :status and t.id <> :excludedId
+        order by t.position asc, t.id asc
+        """)
+    List<Integer> findPositionsExcluding(
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status,
+        @Param("excludedId") Long excludedId,
+        Pageable pageable
+    );
+
+    @Query("select t.position from KanbanTask t where t.id = :id and t.owner = :owner and t.status = :status")
+    Optional<Integer> findPositionByIdAndOwnerAndStatus(
+        @Param("id") Long id,
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status
+    );
+
+    @Query("""
+        select min(t.position) from KanbanTask t
+        where t.owner = :owner and t.status = :status and t.id <> :excludedId and t.position > :after
+        """)
+    Integer findNextPositionExcluding(
+        @Param("owner") UserAccount owner,
+        @Param("status") TaskStatus status,
+        @Param("excludedId") Long excludedId,
+        @Param("after") Integer after
+    );
 }
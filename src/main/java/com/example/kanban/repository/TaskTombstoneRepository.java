@@ -0,0 +1,26 @@
+package com.example.kanban.repository;
+
+import com.example.kanban.model.TaskTombstone;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    @Query("""
+        select t.taskId from TaskTombstone t
+        where t.ownerId = :ownerId and t.revision > :since and t.revision <= :upTo
+        """)
+    List<Long> findDeletedTaskIds(
+        @Param("ownerId") Long ownerId,
+        @Param("since") long since,
+        @Param("upTo") long upTo
+    );
+
+    @Modifying
+    @Query("delete from TaskTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
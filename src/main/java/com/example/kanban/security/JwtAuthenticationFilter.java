@@ -1,11 +1,14 @@
 package com.example.kanban.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,28 +17,74 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * Authenticates bearer tokens. Token verification and principal loading are timed separately as
+ * {@code kanban.auth.token.verification} and {@code kanban.auth.user.load}.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * EventSource cannot send headers, so the event stream may pass the token as a query parameter.
+     */
+    private static final String EVENT_STREAM_PATH = "/api/tasks/events";
+    private static final String TOKEN_PARAMETER = "access_token";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final Timer tokenAccepted;
+    private final Timer tokenRejected;
+    private final Timer userLoad;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService, MeterRegistry meterRegistry) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.tokenAccepted = verificationTimer(meterRegistry, "accepted");
+        this.tokenRejected = verificationTimer(meterRegistry, "rejected");
+        this.userLoad = Timer.builder("kanban.auth.user.load")
+            .description("Loading the principal named by a verified token")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("kanban.auth.token.verification")
+            .description("Bearer token signature, expiry and subject checks")
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
         throws ServletException, IOException {
-        String authHeader = request.getHeader("Authorization");
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        String token = resolveToken(request);
+        if (token == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String token = authHeader.substring(7);
-        String username = jwtService.extractUsername(token);
+        long verifyStart = System.nanoTime();
+        Claims claims;
+        try {
+            claims = jwtService.parseClaims(token);
+        } catch (RuntimeException ex) {
+            tokenRejected.record(System.nanoTime() - verifyStart, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+        long verifyNanos = System.nanoTime() - verifyStart;
+        String username = claims.getSubject();
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            long loadStart = System.nanoTime();
             UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(token, userDetails)) {
+            userLoad.record(System.nanoTime() - loadStart, TimeUnit.NANOSECONDS);
+
+            long checkStart = System.nanoTime();
+            boolean valid = jwtService.isTokenValid(claims, userDetails);
+            verifyNanos += System.nanoTime() - checkStart;
+            (valid ? tokenAccepted : tokenRejected).record(verifyNanos, TimeUnit.NANOSECONDS);
+            if (valid) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                     userDetails,
                     null,
@@ -44,8 +93,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
+        } else {
+            (username != null ? tokenAccepted : tokenRejected).record(verifyNanos, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private String resolveToken(HttpServletRequest request) {
+        String authHeader = request.getHeader("Authorization");
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        if (EVENT_STREAM_PATH.equals(request.getRequestURI())) {
+            String token = request.getParameter(TOKEN_PARAMETER);
+            return token == null || token.isBlank() ? null : token;
+        }
+        return null;
+    }
 }
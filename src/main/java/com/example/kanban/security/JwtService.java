@@ -1,14 +1,21 @@
 package com.example.kanban.security;
 
 import com.example.kanban.config.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -17,23 +24,49 @@ import org.springframework.stereotype.Service;
 public class JwtService {
 
     private final JwtProperties properties;
-    private Key key;
+    private final Key key;
+    private final JwtParser parser;
+    private final Cache<String, Claims> verifiedClaims;
 
     public JwtService(JwtProperties properties) {
         this.properties = properties;
+        this.key = signingKey(properties.getSecret());
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+            .maximumSize(properties.getClaimsCacheSize())
+            .expireAfter(new ExpireAtTokenExpiration())
+            .build();
     }
 
-    private Key signingKey() {
-        if (key == null) {
-            byte[] keyBytes;
-            try {
-                keyBytes = Decoders.BASE64.decode(properties.getSecret());
-            } catch (IllegalArgumentException ex) {
-                keyBytes = properties.getSecret().getBytes(StandardCharsets.UTF_8);
-            }
-            this.key = Keys.hmacShaKeyFor(keyBytes);
+    private static Key signingKey(String secret) {
+        byte[] keyBytes;
+        try {
+            keyBytes = Decoders.BASE64.decode(secret);
+        } catch (IllegalArgumentException ex) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         }
-        return this.key;
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    /**
+     * Verifies the signature and expiration once and returns the claims. Tokens that already
+     * passed verification are served from a cache until their own {@code exp}; tokens without an
+     * {@code exp} are rejected with a {@link MissingClaimException}.
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = verifiedClaims.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+        Jws<Claims> jws = parser.parseClaimsJws(token);
+        Claims claims = jws.getBody();
+        if (claims.getExpiration() == null) {
+            throw new MissingClaimException(jws.getHeader(), claims, "Token sem data de expiracao");
+        }
+        verifiedClaims.put(token, claims);
+        return claims;
     }
 
     public String extractUsername(String token) {
@@ -45,12 +78,7 @@ public class JwtService {
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(signingKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(parseClaims(token));
     }
 
     public String generateToken(UserDetails userDetails) {
@@ -65,16 +93,41 @@ public class JwtService {
             .setSubject(userDetails.getUsername())
             .setIssuedAt(now)
             .setExpiration(expiration)
-            .signWith(signingKey())
+            .signWith(key)
             .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return username.equalsIgnoreCase(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parseClaims(token), userDetails);
+    }
+
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        String username = claims.getSubject();
+        return username != null
+            && username.equalsIgnoreCase(userDetails.getUsername())
+            && !isTokenExpired(claims);
+    }
+
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration() == null || claims.getExpiration().before(new Date());
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static final class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
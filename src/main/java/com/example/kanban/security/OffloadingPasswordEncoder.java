@@ -0,0 +1,99 @@
+package com.example.kanban.security;
+
+import com.example.kanban.config.PasswordHashingProperties;
+import com.example.kanban.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Runs the wrapped encoder on a small dedicated pool instead of the request thread, so hashing
+ * never occupies more than {@code kanban.security.password.hash-threads} cores. Once
+ * {@code max-queued} requests are already waiting, new ones fail fast with
+ * {@link ServiceBusyException} (503), counted as {@code kanban.auth.password.rejected}.
+ *
+ * <p>Hash upgrades on login are only offered while nothing is queued, so a storm is not made
+ * worse by rehashing; skipped users are upgraded on a later login.
+ */
+class OffloadingPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        BlockingQueue<Runnable> queue = properties.getMaxQueued() > 0
+            ? new ArrayBlockingQueue<>(properties.getMaxQueued())
+            : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(
+            properties.getHashThreads(),
+            properties.getHashThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            queue,
+            Thread.ofPlatform().name("password-hash-", 0).daemon().factory()
+        );
+        this.rejected = Counter.builder("kanban.auth.password.rejected")
+            .description("Logins and registrations refused because the hashing queue was full")
+            .register(meterRegistry);
+        Gauge.builder("kanban.auth.password.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("Password hashes waiting for a hashing thread")
+            .register(meterRegistry);
+        Gauge.builder("kanban.auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("Password hashes currently running")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return offload(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return offload(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return executor.getQueue().isEmpty() && delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T offload(Callable<T> hashing) {
+        Future<T> result;
+        try {
+            result = executor.submit(hashing);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceBusyException("Muitas autenticacoes em andamento, tente novamente");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hash de senha interrompido", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
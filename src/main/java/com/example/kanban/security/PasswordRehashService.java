@@ -0,0 +1,31 @@
+package com.example.kanban.security;
+
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores the new hash {@code DaoAuthenticationProvider} computes after a successful login when the
+ * stored one was made with a lower work factor than {@code kanban.security.password.strength}.
+ * The account write evicts the cached principal through {@link PrincipalCacheInvalidator}.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordRehashService implements UserDetailsPasswordService {
+
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserAccount account = userAccountRepository.findByUsernameIgnoreCase(user.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException("Usuario nao encontrado: " + user.getUsername()));
+        account.setPassword(newPassword);
+        return account;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.kanban.security;
+
+import com.example.kanban.config.PrincipalCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Locale;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded username -> principal cache used by the JWT filter so authenticated requests do not
+ * reload the user and its roles on every call. Hit/miss counters are published as
+ * {@code cache.gets{cache=principals}}.
+ */
+@Component
+public class PrincipalCache implements UserCache {
+
+    private final Cache<String, UserDetails> cache;
+
+    public PrincipalCache(PrincipalCacheProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        return cache.getIfPresent(key(username));
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        cache.put(key(user.getUsername()), user);
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        cache.invalidate(key(username));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
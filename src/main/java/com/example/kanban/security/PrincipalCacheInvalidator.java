@@ -0,0 +1,40 @@
+package com.example.kanban.security;
+
+import com.example.kanban.model.UserAccount;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that drops a user from {@link PrincipalCache} whenever the account is
+ * written. The entry is evicted again after commit so a concurrent request cannot re-cache the
+ * pre-commit state.
+ */
+@Component
+public class PrincipalCacheInvalidator {
+
+    private final PrincipalCache principalCache;
+
+    public PrincipalCacheInvalidator(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onUserChanged(UserAccount user) {
+        String username = user.getUsername();
+        principalCache.removeUserFromCache(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    principalCache.removeUserFromCache(username);
+                }
+            });
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.kanban.security;
 
+import com.example.kanban.config.PasswordHashingProperties;
 import com.example.kanban.repository.UserAccountRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.CachingUserDetailsService;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -26,21 +30,30 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     @Bean
-    public UserDetailsService userDetailsService(UserAccountRepository repository) {
-        return username -> repository.findByUsernameIgnoreCase(username)
+    public UserDetailsService userDetailsService(UserAccountRepository repository, PrincipalCache principalCache) {
+        UserDetailsService delegate = username -> repository.findByUsernameIgnoreCase(username)
             .orElseThrow(() -> new UsernameNotFoundException("Usuario nao encontrado: " + username));
+        CachingUserDetailsService cachingService = new CachingUserDetailsService(delegate);
+        cachingService.setUserCache(principalCache);
+        return cachingService;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        PasswordEncoder bcrypt = new TimedPasswordEncoder(new BCryptPasswordEncoder(properties.getStrength()), meterRegistry);
+        return new OffloadingPasswordEncoder(bcrypt, properties, meterRegistry);
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+    public DaoAuthenticationProvider authenticationProvider(
+        UserDetailsService userDetailsService,
+        PasswordEncoder passwordEncoder,
+        PasswordRehashService passwordRehashService
+    ) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
         provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(passwordRehashService);
         return provider;
     }
 
@@ -61,7 +74,9 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**", "/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health/**").permitAll()
                 .anyRequest().authenticated())
             .exceptionHandling(ex -> ex.authenticationEntryPoint(authenticationEntryPoint))
             .authenticationProvider(authenticationProvider)
@@ -0,0 +1,174 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.BoardCacheProperties;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.KanbanTaskRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Write-through cache of whole boards in front of the {@link TaskService} read paths, one
+ * {@link BoardSnapshot} per owner. Entries are weighed by their encoded size and evicted by
+ * Caffeine (W-TinyLFU) once the total passes {@code kanban.tasks.board-cache.max-size}.
+ *
+ * <p>Mutations hand the rows they committed to {@link #apply}, tagged with the board revision they
+ * produced, and a snapshot advances one revision at a time. A revision gap, or a write that
+ * repositioned rows it does not report (dense renumbering, rebalancing, batches), drops the entry
+ * instead, and a load that overlapped a commit is returned but not stored. Hit ratio and resident
+ * size are published as {@code cache.gets{cache=boards}}, {@code kanban.board.cache.hit.ratio} and
+ * {@code kanban.board.cache.resident}.
+ */
+@Component
+public class BoardCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final Cache<Long, BoardSnapshot> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final KanbanTaskRepository kanbanTaskRepository;
+    private final BoardVersionService boardVersionService;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BoardCache(
+        BoardCacheProperties properties,
+        KanbanTaskRepository kanbanTaskRepository,
+        BoardVersionService boardVersionService,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = properties.isEnabled();
+        this.kanbanTaskRepository = kanbanTaskRepository;
+        this.boardVersionService = boardVersionService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxSize().toBytes())
+            .weigher((Long ownerId, BoardSnapshot snapshot) -> (int) Math.min(Integer.MAX_VALUE, snapshot.residentBytes()))
+            .expireAfterAccess(properties.getIdleTimeout())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boards");
+        Gauge.builder("kanban.board.cache.hit.ratio", cache, boards -> boards.stats().hitRate())
+            .description("Share of board reads answered from memory")
+            .register(meterRegistry);
+        Gauge.builder("kanban.board.cache.resident", cache, boards -> boards.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L))
+            .description("Encoded size of the boards held in memory")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the owner's board, loading and caching it on a miss. A hit touches no connection.
+     */
+    BoardSnapshot board(UserAccount owner) {
+        if (!enabled) {
+            return load(owner).snapshot();
+        }
+        BoardSnapshot cached = cache.getIfPresent(owner.getId());
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(owner.getId());
+        long generation = generations.get(stripe);
+        Loaded loaded = load(owner);
+        if (loaded.settled()) {
+            cache.asMap().compute(owner.getId(), (ownerId, existing) -> {
+                if (generations.get(stripe) != generation) {
+                    return existing;
+                }
+                return existing != null && existing.revision() >= loaded.snapshot().revision() ? existing : loaded.snapshot();
+            });
+        }
+        return loaded.snapshot();
+    }
+
+    /**
+     * Returns the cached board only if it holds exactly {@code revision}; never loads and does not
+     * count towards the hit ratio. Under the board's version lock, a board at the revision before
+     * the mutation's own matches the rows in the database.
+     */
+    BoardSnapshot cachedAt(Long ownerId, long revision) {
+        if (!enabled) {
+            return null;
+        }
+        BoardSnapshot cached = cache.policy().getIfPresentQuietly(ownerId);
+        return cached != null && cached.revision() == revision ? cached : null;
+    }
+
+    /**
+     * Brings the owner's cached board up to the revision a mutation just committed. Must run after
+     * the commit: the written entities are read here, with their flushed timestamps.
+     */
+    void apply(Long ownerId, BoardWrites writes) {
+        if (!enabled) {
+            return;
+        }
+        generations.incrementAndGet(stripe(ownerId));
+        if (writes.isRepositioned()) {
+            cache.invalidate(ownerId);
+            return;
+        }
+        List<KanbanTask> tasks = writes.writtenTasks();
+        List<TaskResponse> written = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            written.add(toRow(tasks.get(i), writes.positionOf(i)));
+        }
+        cache.asMap().computeIfPresent(ownerId, (id, snapshot) -> {
+            if (writes.revision() <= snapshot.revision()) {
+                return snapshot;
+            }
+            if (writes.revision() != snapshot.revision() + 1) {
+                return null;
+            }
+            return snapshot.withChanges(writes.revision(), written, writes.removedIds());
+        });
+    }
+
+    /**
+     * Reads the board between two version reads; only a board whose version did not move while
+     * its rows were read is known to hold exactly that revision and may be cached.
+     */
+    private Loaded load(UserAccount owner) {
+        return readOnlyTransaction.execute(status -> {
+            long revision = boardVersionService.currentVersion(owner);
+            List<TaskResponse> rows = kanbanTaskRepository.findBoardView(owner);
+            boolean settled = !enabled || boardVersionService.currentVersion(owner) == revision;
+            return new Loaded(BoardSnapshot.of(revision, rows), settled);
+        });
+    }
+
+    private static int stripe(Long ownerId) {
+        return Long.hashCode(ownerId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static TaskResponse toRow(KanbanTask task, int position) {
+        return new TaskResponse(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getPriority(),
+            position,
+            task.getDueDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt()
+        );
+    }
+
+    private record Loaded(BoardSnapshot snapshot, boolean settled) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.kanban.service;
+
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import java.time.LocalDate;
+
+/**
+ * Net change one mutation makes to the board's counters: each task it touches is counted out as
+ * it was read and back in as it will be committed, so untouched dimensions cancel to zero.
+ */
+final class BoardCounts {
+
+    private final LocalDate today;
+    private final long[] byStatus = new long[TaskStatus.values().length];
+    private final long[] byPriority = new long[TaskPriority.values().length];
+    private long overdue;
+
+    BoardCounts(LocalDate today) {
+        this.today = today;
+    }
+
+    void add(KanbanTask task) {
+        count(task, 1);
+    }
+
+    void remove(KanbanTask task) {
+        count(task, -1);
+    }
+
+    LocalDate today() {
+        return today;
+    }
+
+    long of(TaskStatus status) {
+        return byStatus[status.ordinal()];
+    }
+
+    long of(TaskPriority priority) {
+        return byPriority[priority.ordinal()];
+    }
+
+    long overdue() {
+        return overdue;
+    }
+
+    boolean isEmpty() {
+        for (long delta : byStatus) {
+            if (delta != 0) {
+                return false;
+            }
+        }
+        for (long delta : byPriority) {
+            if (delta != 0) {
+                return false;
+            }
+        }
+        return overdue == 0;
+    }
+
+    static boolean isOverdue(TaskStatus status, LocalDate dueDate, LocalDate today) {
+        return status != TaskStatus.DONE && dueDate != null && dueDate.isBefore(today);
+    }
+
+    private void count(KanbanTask task, int sign) {
+        byStatus[task.getStatus().ordinal()] += sign;
+        byPriority[task.getPriority().ordinal()] += sign;
+        if (isOverdue(task.getStatus(), task.getDueDate(), today)) {
+            overdue += sign;
+        }
+    }
+}
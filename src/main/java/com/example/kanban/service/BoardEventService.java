@@ -0,0 +1,200 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.EventStreamProperties;
+import com.example.kanban.exception.ServiceBusyException;
+import com.example.kanban.model.UserAccount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes committed board changes to the owner's open SSE connections. Each connection keeps a
+ * small pending map keyed by task id, so bursts collapse to the latest event per task and are
+ * flushed together; a connection that falls too far behind gets a single {@code resync} event
+ * instead of an unbounded backlog.
+ */
+@Slf4j
+@Service
+public class BoardEventService {
+
+    private final EventStreamProperties properties;
+    private final Map<Long, Set<Connection>> connectionsByOwner = new ConcurrentHashMap<>();
+    private final AtomicInteger openConnections = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("board-events-scheduler").daemon().factory()
+    );
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("board-events-", 0).factory()
+    );
+
+    public BoardEventService(EventStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        long flushMillis = properties.getFlushInterval().toMillis();
+        long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushAll, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::heartbeatAll, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        Gauge.builder("kanban.events.connections", openConnections, AtomicInteger::get)
+            .description("Open board event streams on this node")
+            .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UserAccount user) {
+        if (openConnections.incrementAndGet() > properties.getMaxConnections()) {
+            openConnections.decrementAndGet();
+            throw new ServiceBusyException("Limite de conexoes de eventos atingido");
+        }
+        SseEmitter emitter = new SseEmitter(properties.getConnectionTimeout().toMillis());
+        Connection connection = new Connection(user.getId(), emitter);
+        // Added inside compute so it cannot land in a set that remove() is dropping from the map.
+        connectionsByOwner.compute(user.getId(), (id, connections) -> {
+            Set<Connection> owned = connections != null ? connections : ConcurrentHashMap.newKeySet();
+            owned.add(connection);
+            return owned;
+        });
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(ex -> remove(connection));
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangeEvent event) {
+        Set<Connection> connections = connectionsByOwner.get(event.ownerId());
+        if (connections == null) {
+            return;
+        }
+        for (Connection connection : connections) {
+            connection.enqueue(event);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        connectionsByOwner.values().forEach(connections -> connections.forEach(connection -> connection.emitter.complete()));
+    }
+
+    private void flushAll() {
+        connectionsByOwner.values().forEach(connections -> connections.forEach(connection -> {
+            if (connection.hasPending() && connection.sending.compareAndSet(false, true)) {
+                senders.execute(connection::flush);
+            }
+        }));
+    }
+
+    private void heartbeatAll() {
+        connectionsByOwner.values().forEach(connections -> connections.forEach(connection -> {
+            if (connection.sending.compareAndSet(false, true)) {
+                senders.execute(connection::heartbeat);
+            }
+        }));
+    }
+
+    private void remove(Connection connection) {
+        AtomicBoolean removed = new AtomicBoolean();
+        connectionsByOwner.computeIfPresent(connection.ownerId, (id, connections) -> {
+            removed.set(connections.remove(connection));
+            return connections.isEmpty() ? null : connections;
+        });
+        if (removed.get()) {
+            openConnections.decrementAndGet();
+        }
+    }
+
+    private final class Connection {
+
+        private final Long ownerId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final LinkedHashMap<Long, TaskChangeEvent> pending = new LinkedHashMap<>();
+        private boolean overflowed;
+
+        private Connection(Long ownerId, SseEmitter emitter) {
+            this.ownerId = ownerId;
+            this.emitter = emitter;
+        }
+
+        private synchronized void enqueue(TaskChangeEvent event) {
+            if (overflowed) {
+                return;
+            }
+            pending.remove(event.taskId());
+            pending.put(event.taskId(), event);
+            if (pending.size() > properties.getMaxPendingEvents()) {
+                pending.clear();
+                overflowed = true;
+            }
+        }
+
+        private synchronized boolean hasPending() {
+            return overflowed || !pending.isEmpty();
+        }
+
+        private synchronized List<TaskChangeEvent> drain() {
+            List<TaskChangeEvent> events = new ArrayList<>(pending.values());
+            pending.clear();
+            return events;
+        }
+
+        private synchronized boolean drainOverflow() {
+            boolean wasOverflowed = overflowed;
+            overflowed = false;
+            return wasOverflowed;
+        }
+
+        private void flush() {
+            try {
+                if (drainOverflow()) {
+                    emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+                } else {
+                    List<TaskChangeEvent> events = drain();
+                    if (!events.isEmpty()) {
+                        // Listeners run in commit order per thread, not revision order across
+                        // threads, so the last event queued is not necessarily the newest.
+                        long revision = events.stream().mapToLong(TaskChangeEvent::revision).max().orElseThrow();
+                        emitter.send(SseEmitter.event()
+                            .name("changes")
+                            .id(Long.toString(revision))
+                            .data(events, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("Closing board event stream for owner {}", ownerId, ex);
+                emitter.completeWithError(ex);
+                remove(this);
+            } finally {
+                sending.set(false);
+            }
+        }
+
+        private void heartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException ex) {
+                emitter.completeWithError(ex);
+                remove(this);
+            } finally {
+                sending.set(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable encoding of one owner's board, columns in board order and tasks in column order: one
+ * primitive array per field, enums as ordinals, dates as epoch days, timestamps as epoch
+ * microseconds and every title and description in a single UTF-8 buffer. Positions are not
+ * stored; a task's position is its index within its column. Writes produce a new snapshot.
+ */
+final class BoardSnapshot {
+
+    /**
+     * Same column order as {@code order by t.status} on the string-mapped status column.
+     */
+    private static final TaskStatus[] COLUMN_ORDER = Arrays.stream(TaskStatus.values())
+        .sorted(Comparator.comparing(TaskStatus::name))
+        .toArray(TaskStatus[]::new);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final int NO_DUE_DATE = Integer.MIN_VALUE;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    /**
+     * Object header plus fields of this class with compressed references.
+     */
+    private static final long SHALLOW_BYTES = 80;
+
+    private final long revision;
+    private final int size;
+    private final long[] ids;
+    private final byte[] statuses;
+    private final byte[] priorities;
+    private final int[] dueDates;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    /**
+     * Task i's title is {@code text[textOffsets[2i], textOffsets[2i + 1])} and its description runs
+     * from there to {@code textOffsets[2i + 2]}. Descriptions are normalized to null when blank,
+     * so an empty one decodes as null.
+     */
+    private final int[] textOffsets;
+    private final byte[] text;
+    private final int[] columnStart;
+    private final int[] columnEnd;
+    private final long residentBytes;
+
+    private BoardSnapshot(
+        long revision,
+        int size,
+        long[] ids,
+        byte[] statuses,
+        byte[] priorities,
+        int[] dueDates,
+        long[] createdAt,
+        long[] updatedAt,
+        int[] textOffsets,
+        byte[] text
+    ) {
+        this.revision = revision;
+        this.size = size;
+        this.ids = ids;
+        this.statuses = statuses;
+        this.priorities = priorities;
+        this.dueDates = dueDates;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.textOffsets = textOffsets;
+        this.text = text;
+        this.columnStart = new int[STATUSES.length];
+        this.columnEnd = new int[STATUSES.length];
+        boolean[] seen = new boolean[STATUSES.length];
+        for (int i = 0; i < size; i++) {
+            int column = statuses[i];
+            if (!seen[column]) {
+                seen[column] = true;
+                columnStart[column] = i;
+            }
+            columnEnd[column] = i + 1;
+        }
+        this.residentBytes = SHALLOW_BYTES
+            + 3 * array(size, Long.BYTES)
+            + 2 * array(size, Byte.BYTES)
+            + array(size, Integer.BYTES)
+            + array(textOffsets.length, Integer.BYTES)
+            + array(text.length, Byte.BYTES)
+            + 2 * array(STATUSES.length, Integer.BYTES);
+    }
+
+    /**
+     * Encodes rows read as {@code order by status, position, id}; their stored positions are ignored.
+     */
+    static BoardSnapshot of(long revision, List<TaskResponse> orderedRows) {
+        Builder builder = new Builder(revision, orderedRows.size(), 64 * orderedRows.size());
+        orderedRows.forEach(builder::add);
+        return builder.build();
+    }
+
+    long revision() {
+        return revision;
+    }
+
+    long residentBytes() {
+        return residentBytes;
+    }
+
+    List<TaskResponse> tasks() {
+        List<TaskResponse> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(row(i));
+        }
+        return tasks;
+    }
+
+    int columnSize(TaskStatus status) {
+        return columnEnd[status.ordinal()] - columnStart[status.ordinal()];
+    }
+
+    List<TaskResponse> column(TaskStatus status) {
+        int from = columnStart[status.ordinal()];
+        int to = columnEnd[status.ordinal()];
+        List<TaskResponse> tasks = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            tasks.add(row(i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Id of the task at {@code index} of the column once {@code excludedId} is taken out of it, or
+     * null past the end of the column.
+     */
+    Long idAt(TaskStatus status, int index, Long excludedId) {
+        int from = columnStart[status.ordinal()];
+        int to = columnEnd[status.ordinal()];
+        int i = from + index;
+        for (int j = from; j <= i && j < to; j++) {
+            if (ids[j] == excludedId) {
+                i++;
+                break;
+            }
+        }
+        return i < to ? ids[i] : null;
+    }
+
+    /**
+     * Returns the board at {@code revision}: removed and written tasks are taken out, then each
+     * written task is inserted at its dense position in its column, lowest position first. Every
+     * other task keeps its relative order, which holds for writes that only reposition the tasks
+     * they report.
+     */
+    BoardSnapshot withChanges(long revision, List<TaskResponse> written, Set<Long> removed) {
+        Set<Long> replaced = new HashSet<>(removed);
+        written.forEach(row -> replaced.add(row.id()));
+        List<TaskResponse> inserts = new ArrayList<>(written);
+        inserts.sort(Comparator.comparing(TaskResponse::position));
+
+        Builder builder = new Builder(revision, size + inserts.size(), text.length + 256 * inserts.size());
+        for (TaskStatus status : COLUMN_ORDER) {
+            List<TaskResponse> columnInserts = inserts.stream().filter(row -> row.status() == status).toList();
+            int next = 0;
+            int index = 0;
+            for (int i = columnStart[status.ordinal()]; i < columnEnd[status.ordinal()]; i++) {
+                if (replaced.contains(ids[i])) {
+                    continue;
+                }
+                while (next < columnInserts.size() && columnInserts.get(next).position() <= index) {
+                    builder.add(columnInserts.get(next++));
+                    index++;
+                }
+                builder.copy(this, i);
+                index++;
+            }
+            while (next < columnInserts.size()) {
+                builder.add(columnInserts.get(next++));
+            }
+        }
+        return builder.build();
+    }
+
+    private TaskResponse row(int i) {
+        int title = textOffsets[2 * i];
+        int description = textOffsets[2 * i + 1];
+        int end = textOffsets[2 * i + 2];
+        return new TaskResponse(
+            ids[i],
+            new String(text, title, description - title, StandardCharsets.UTF_8),
+            end > description ? new String(text, description, end - description, StandardCharsets.UTF_8) : null,
+            STATUSES[statuses[i]],
+            PRIORITIES[priorities[i]],
+            i - columnStart[statuses[i]],
+            dueDates[i] != NO_DUE_DATE ? LocalDate.ofEpochDay(dueDates[i]) : null,
+            instant(createdAt[i]),
+            instant(updatedAt[i])
+        );
+    }
+
+    private static long array(int length, int elementBytes) {
+        return (16 + (long) length * elementBytes + 7) & ~7L;
+    }
+
+    private static long micros(Instant instant) {
+        if (instant == null) {
+            return NO_TIMESTAMP;
+        }
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant instant(long micros) {
+        if (micros == NO_TIMESTAMP) {
+            return null;
+        }
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static final class Builder {
+
+        private final long revision;
+        private final long[] ids;
+        private final byte[] statuses;
+        private final byte[] priorities;
+        private final int[] dueDates;
+        private final long[] createdAt;
+        private final long[] updatedAt;
+        private final int[] textOffsets;
+        private byte[] text;
+        private int textLength;
+        private int count;
+
+        private Builder(long revision, int capacity, int textCapacity) {
+            this.revision = revision;
+            this.ids = new long[capacity];
+            this.statuses = new byte[capacity];
+            this.priorities = new byte[capacity];
+            this.dueDates = new int[capacity];
+            this.createdAt = new long[capacity];
+            this.updatedAt = new long[capacity];
+            this.textOffsets = new int[2 * capacity + 1];
+            this.text = new byte[Math.max(16, textCapacity)];
+        }
+
+        private void add(TaskResponse row) {
+            ids[count] = row.id();
+            statuses[count] = (byte) row.status().ordinal();
+            priorities[count] = (byte) row.priority().ordinal();
+            dueDates[count] = row.dueDate() != null ? Math.toIntExact(row.dueDate().toEpochDay()) : NO_DUE_DATE;
+            createdAt[count] = micros(row.createdAt());
+            updatedAt[count] = micros(row.updatedAt());
+            append(row.title().getBytes(StandardCharsets.UTF_8));
+            textOffsets[2 * count + 1] = textLength;
+            if (row.description() != null) {
+                append(row.description().getBytes(StandardCharsets.UTF_8));
+            }
+            textOffsets[2 * count + 2] = textLength;
+            count++;
+        }
+
+        private void copy(BoardSnapshot source, int i) {
+            ids[count] = source.ids[i];
+            statuses[count] = source.statuses[i];
+            priorities[count] = source.priorities[i];
+            dueDates[count] = source.dueDates[i];
+            createdAt[count] = source.createdAt[i];
+            updatedAt[count] = source.updatedAt[i];
+            int from = source.textOffsets[2 * i];
+            int length = source.textOffsets[2 * i + 2] - from;
+            ensureText(length);
+            System.arraycopy(source.text, from, text, textLength, length);
+            textOffsets[2 * count + 1] = textLength + source.textOffsets[2 * i + 1] - from;
+            textLength += length;
+            textOffsets[2 * count + 2] = textLength;
+            count++;
+        }
+
+        private void append(byte[] bytes) {
+            ensureText(bytes.length);
+            System.arraycopy(bytes, 0, text, textLength, bytes.length);
+            textLength += bytes.length;
+        }
+
+        private void ensureText(int additional) {
+            if (textLength + additional > text.length) {
+                text = Arrays.copyOf(text, Math.max(textLength + additional, text.length * 2));
+            }
+        }
+
+        private BoardSnapshot build() {
+            return new BoardSnapshot(
+                revision,
+                count,
+                Arrays.copyOf(ids, count),
+                Arrays.copyOf(statuses, count),
+                Arrays.copyOf(priorities, count),
+                Arrays.copyOf(dueDates, count),
+                Arrays.copyOf(createdAt, count),
+                Arrays.copyOf(updatedAt, count),
+                Arrays.copyOf(textOffsets, 2 * count + 1),
+                Arrays.copyOf(text, textLength)
+            );
+        }
+    }
+}
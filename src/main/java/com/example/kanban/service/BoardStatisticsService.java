@@ -0,0 +1,213 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.BoardStatisticsCheckResponse;
+import com.example.kanban.dto.BoardStatisticsResponse;
+import com.example.kanban.model.BoardStatistics;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.BoardStatisticsRepository;
+import com.example.kanban.repository.BoardVersionRepository;
+import com.example.kanban.repository.KanbanTaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Board counters per status and priority plus overdue tasks, kept in the owner's
+ * {@link BoardStatistics} row. {@link TaskService} adds each mutation's {@link BoardCounts} in the
+ * mutation's own transaction, so a read is one primary-key lookup whatever the board size.
+ *
+ * <p>The row is derived data. A missing row is rebuilt with {@code GROUP BY} under the board's
+ * version lock, which every mutation also takes, and {@link #check} recomputes the counters the
+ * same way to report drift ({@code kanban.board.statistics.drift}) without touching the row.
+ */
+@Slf4j
+@Service
+public class BoardStatisticsService {
+
+    private final BoardStatisticsRepository boardStatisticsRepository;
+    private final BoardVersionRepository boardVersionRepository;
+    private final KanbanTaskRepository kanbanTaskRepository;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter driftDetected;
+
+    public BoardStatisticsService(
+        BoardStatisticsRepository boardStatisticsRepository,
+        BoardVersionRepository boardVersionRepository,
+        KanbanTaskRepository kanbanTaskRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.boardStatisticsRepository = boardStatisticsRepository;
+        this.boardVersionRepository = boardVersionRepository;
+        this.kanbanTaskRepository = kanbanTaskRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.driftDetected = Counter.builder("kanban.board.statistics.drift")
+            .description("Consistency checks that found stored board counters different from the tasks")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reads the owner's counters. Only the first read of a day, or of a board without a row, does
+     * more than a primary-key lookup.
+     */
+    public BoardStatisticsResponse statistics(UserAccount owner) {
+        LocalDate today = LocalDate.now();
+        BoardStatistics stored = readOnlyTransaction.execute(status ->
+            boardStatisticsRepository.findById(owner.getId()).orElse(null));
+        if (stored != null && today.equals(stored.getOverdueAsOf())) {
+            return toResponse(stored);
+        }
+        return transaction.execute(status -> toResponse(refresh(owner, today)));
+    }
+
+    /**
+     * Recomputes the counters from the tasks and overwrites the owner's row.
+     */
+    @Transactional
+    public BoardStatisticsResponse rebuild(UserAccount owner) {
+        boardVersionRepository.lockVersion(owner.getId());
+        BoardStatistics statistics = boardStatisticsRepository.findById(owner.getId())
+            .orElseGet(() -> new BoardStatistics(owner.getId()));
+        recount(owner, statistics, LocalDate.now());
+        return toResponse(boardStatisticsRepository.save(statistics));
+    }
+
+    /**
+     * Recomputes the counters with {@code GROUP BY} and compares them with the stored row, holding
+     * off the owner's mutations meanwhile. Drift is reported, not repaired; see {@link #rebuild}.
+     */
+    @Transactional
+    public BoardStatisticsCheckResponse check(UserAccount owner) {
+        LocalDate today = LocalDate.now();
+        boardVersionRepository.lockVersion(owner.getId());
+        BoardStatistics stored = boardStatisticsRepository.findById(owner.getId()).orElse(null);
+        BoardStatistics actual = new BoardStatistics(owner.getId());
+        recount(owner, actual, today);
+        if (stored == null) {
+            return new BoardStatisticsCheckResponse(true, null, toResponse(actual), Map.of());
+        }
+
+        Map<String, Long> drift = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            recordDrift(drift, "status." + status.name(), stored.count(status), actual.count(status));
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            recordDrift(drift, "priority." + priority.name(), stored.count(priority), actual.count(priority));
+        }
+        if (today.equals(stored.getOverdueAsOf())) {
+            recordDrift(drift, "overdue", stored.getOverdueCount(), actual.getOverdueCount());
+        }
+        if (!drift.isEmpty()) {
+            driftDetected.increment();
+            log.warn("Board statistics of owner {} drifted from the tasks: {}", owner.getId(), drift);
+        }
+        return new BoardStatisticsCheckResponse(drift.isEmpty(), toResponse(stored), toResponse(actual), drift);
+    }
+
+    /**
+     * Adds a mutation's deltas to the owner's row, or builds the row from the tasks (the
+     * mutation's own writes included) if there is none yet. Must run after the mutation has
+     * taken the board's version lock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    void apply(UserAccount owner, BoardCounts delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        int updated = boardStatisticsRepository.addDeltas(
+            owner.getId(),
+            delta.of(TaskStatus.TODO),
+            delta.of(TaskStatus.IN_PROGRESS),
+            delta.of(TaskStatus.DONE),
+            delta.of(TaskPriority.LOW),
+            delta.of(TaskPriority.MEDIUM),
+            delta.of(TaskPriority.HIGH),
+            delta.overdue(),
+            delta.today()
+        );
+        if (updated == 0) {
+            BoardStatistics statistics = new BoardStatistics(owner.getId());
+            recount(owner, statistics, delta.today());
+            boardStatisticsRepository.save(statistics);
+        }
+    }
+
+    /**
+     * Slow path of {@link #statistics}: builds a missing row, or recounts a previous day's overdue
+     * tasks, under the version lock. A board that was never written has nothing to count.
+     */
+    private BoardStatistics refresh(UserAccount owner, LocalDate today) {
+        if (boardVersionRepository.lockVersion(owner.getId()).isEmpty()) {
+            BoardStatistics empty = new BoardStatistics(owner.getId());
+            empty.setOverdueAsOf(today);
+            return empty;
+        }
+        BoardStatistics statistics = boardStatisticsRepository.findById(owner.getId()).orElse(null);
+        if (statistics == null) {
+            statistics = new BoardStatistics(owner.getId());
+            recount(owner, statistics, today);
+            return boardStatisticsRepository.save(statistics);
+        }
+        if (!today.equals(statistics.getOverdueAsOf())) {
+            statistics.setOverdueCount(kanbanTaskRepository.countOverdue(owner, today));
+            statistics.setOverdueAsOf(today);
+        }
+        return statistics;
+    }
+
+    private void recount(UserAccount owner, BoardStatistics statistics, LocalDate today) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (Object[] row : kanbanTaskRepository.countByStatusAndPriority(owner)) {
+            long count = (Long) row[2];
+            byStatus.merge((TaskStatus) row[0], count, Long::sum);
+            byPriority.merge((TaskPriority) row[1], count, Long::sum);
+        }
+        for (TaskStatus status : TaskStatus.values()) {
+            statistics.setCount(status, byStatus.getOrDefault(status, 0L));
+        }
+        for (TaskPriority priority : TaskPriority.values()) {
+            statistics.setCount(priority, byPriority.getOrDefault(priority, 0L));
+        }
+        statistics.setOverdueCount(kanbanTaskRepository.countOverdue(owner, today));
+        statistics.setOverdueAsOf(today);
+        statistics.setRebuiltAt(Instant.now());
+    }
+
+    private static void recordDrift(Map<String, Long> drift, String counter, long stored, long actual) {
+        if (stored != actual) {
+            drift.put(counter, actual - stored);
+        }
+    }
+
+    private static BoardStatisticsResponse toResponse(BoardStatistics statistics) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, statistics.count(status));
+            total += statistics.count(status);
+        }
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, statistics.count(priority));
+        }
+        return new BoardStatisticsResponse(
+            byStatus, byPriority, total, statistics.getOverdueCount(), statistics.getOverdueAsOf()
+        );
+    }
+}
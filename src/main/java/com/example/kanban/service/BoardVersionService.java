@@ -0,0 +1,70 @@
+package com.example.kanban.service;
+
+import com.example.kanban.model.BoardVersion;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.BoardVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Monotonic per-owner counter bumped by every board mutation. Board reads carry the revision
+ * they were taken at, and the task endpoints build their validators from that revision rather
+ * than from a separate read of the counter.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardVersionService {
+
+    private final BoardVersionRepository boardVersionRepository;
+
+    @Transactional(readOnly = true)
+    public long currentVersion(UserAccount owner) {
+        return boardVersionRepository.findVersion(owner.getId()).orElse(0L);
+    }
+
+    /**
+     * Bumps the owner's version and returns the new value. The row stays locked until the calling
+     * transaction ends, so mutations of one board commit in version order.
+     *
+     * <p>The board's first mutation creates the row. Two first mutations on different column locks
+     * can both try; the insert is flushed here so the loser fails on the primary key straight away,
+     * as a {@link ConcurrencyFailureException} that retries it against the winner's row.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long increment(UserAccount owner) {
+        if (boardVersionRepository.increment(owner.getId()) == 0) {
+            try {
+                boardVersionRepository.saveAndFlush(new BoardVersion(owner.getId(), 1));
+            } catch (DataIntegrityViolationException ex) {
+                throw new ConcurrencyFailureException("Versao do board criada por outra operacao", ex);
+            }
+            return 1;
+        }
+        return boardVersionRepository.findVersion(owner.getId()).orElseThrow();
+    }
+
+    /**
+     * Weak validator for the owner's board at {@code revision}, for bodies read at a known
+     * revision such as a {@link BoardView}. One revision is served as JSON, CBOR or Smile, gzipped
+     * or not: equivalent bodies, not identical bytes, and Tomcat only compresses responses whose
+     * ETag is weak.
+     */
+    public String etag(UserAccount owner, long revision) {
+        return weakEtag(owner.getId() + "-" + revision);
+    }
+
+    /**
+     * Weak validator for an export of the owner's board at {@code revision} in {@code format}.
+     */
+    public String etag(UserAccount owner, long revision, String format) {
+        return weakEtag(owner.getId() + "-" + revision + "-" + format);
+    }
+
+    private static String weakEtag(String value) {
+        return "W/\"" + value + "\"";
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.kanban.service;
+
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import java.util.List;
+
+/**
+ * One read of an owner's board: the snapshot that will be served and the revision it holds, so a
+ * validator built from {@link #revision()} always describes the body sent with it. Rows are only
+ * decoded when asked for, which a conditional GET answered with 304 never does.
+ */
+public final class BoardView {
+
+    private final BoardSnapshot snapshot;
+
+    BoardView(BoardSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    public long revision() {
+        return snapshot.revision();
+    }
+
+    public List<TaskResponse> tasks() {
+        return snapshot.tasks();
+    }
+
+    public List<TaskResponse> column(TaskStatus status) {
+        return snapshot.column(status);
+    }
+}
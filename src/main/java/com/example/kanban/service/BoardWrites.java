@@ -0,0 +1,71 @@
+package com.example.kanban.service;
+
+import com.example.kanban.model.KanbanTask;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What one board mutation wrote, collected inside its transaction. Its {@link BoardCounts} go to
+ * {@link BoardStatisticsService} before the commit; the rest is handed to the in-memory views of
+ * the board ({@link BoardCache}, {@link TaskSearchIndex}) once it has committed, and the written
+ * entities are read then, with their flushed timestamps.
+ */
+final class BoardWrites {
+
+    private final List<KanbanTask> written = new ArrayList<>();
+    private final List<Integer> positions = new ArrayList<>();
+    private final Set<Long> removed = new HashSet<>();
+    private final BoardCounts counts = new BoardCounts(LocalDate.now());
+    private long revision;
+    private boolean repositioned;
+
+    void at(long revision) {
+        this.revision = revision;
+    }
+
+    /**
+     * The task as it will be committed, at its dense position in its column.
+     */
+    void written(KanbanTask task, int position) {
+        written.add(task);
+        positions.add(position);
+    }
+
+    void removed(Long taskId) {
+        removed.add(taskId);
+    }
+
+    /**
+     * Rows other than the reported ones changed position.
+     */
+    void repositioned() {
+        repositioned = true;
+    }
+
+    BoardCounts counts() {
+        return counts;
+    }
+
+    long revision() {
+        return revision;
+    }
+
+    List<KanbanTask> writtenTasks() {
+        return written;
+    }
+
+    int positionOf(int index) {
+        return positions.get(index);
+    }
+
+    Set<Long> removedIds() {
+        return removed;
+    }
+
+    boolean isRepositioned() {
+        return repositioned;
+    }
+}
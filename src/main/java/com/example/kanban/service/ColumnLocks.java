@@ -0,0 +1,93 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.TaskConcurrencyProperties;
+import com.example.kanban.exception.ServiceBusyException;
+import com.example.kanban.model.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Striped in-process locks keyed by (owner, column). Mutations take the stripes of every column
+ * they touch, in stripe order, before opening a transaction, so conflicting moves queue here
+ * without holding a connection while unrelated boards and columns proceed in parallel.
+ * Contention shows up as {@code kanban.tasks.lock.contended} and {@code kanban.tasks.lock.wait}.
+ */
+@Component
+public class ColumnLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutNanos;
+    private final Counter contended;
+    private final Timer waitTimer;
+
+    public ColumnLocks(TaskConcurrencyProperties properties, MeterRegistry meterRegistry) {
+        int size = Integer.highestOneBit(Math.max(1, properties.getLockStripes() - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutNanos = properties.getLockTimeout().toNanos();
+        this.contended = Counter.builder("kanban.tasks.lock.contended")
+            .description("Column lock acquisitions that had to wait for another mutation")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("kanban.tasks.lock.wait")
+            .description("Time spent waiting for a contended column lock")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    public <T> T withColumns(Long ownerId, Set<TaskStatus> columns, Supplier<T> action) {
+        int[] indexes = columns.stream()
+            .mapToInt(status -> stripe(ownerId, status))
+            .distinct()
+            .sorted()
+            .toArray();
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                acquire(stripes[index]);
+                acquired++;
+            }
+            return action.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    private void acquire(ReentrantLock lock) {
+        if (lock.tryLock()) {
+            return;
+        }
+        contended.increment();
+        long start = System.nanoTime();
+        boolean locked;
+        try {
+            locked = lock.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            locked = false;
+        }
+        waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (!locked) {
+            throw new ServiceBusyException("Coluna ocupada por outras operacoes, tente novamente em instantes");
+        }
+    }
+
+    private int stripe(Long ownerId, TaskStatus status) {
+        int hash = Long.hashCode(ownerId) * 31 + status.ordinal();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return hash & mask;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.ExportProperties;
+import com.example.kanban.dto.ExportJobResponse;
+import com.example.kanban.exception.ServiceBusyException;
+import com.example.kanban.model.UserAccount;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs PDF exports off the request threads. Jobs queue on a bounded executor backed by virtual
+ * threads, spool their result to local disk and are forgotten once {@code kanban.export.result-ttl}
+ * has passed since completion. Each owner keeps at most
+ * {@code kanban.export.max-retained-jobs-per-owner} jobs: a new submission evicts the owner's
+ * oldest finished job, or is refused while all of them are still queued, running or being
+ * downloaded. A job whose result is being downloaded is never evicted or purged, so its spool file
+ * outlives every open download.
+ */
+@Slf4j
+@Service
+public class PdfExportJobService {
+
+    public enum JobStatus {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final PdfExportService pdfExportService;
+    private final ExportProperties properties;
+    private final Path spoolDirectory;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+
+    public PdfExportJobService(PdfExportService pdfExportService, ExportProperties properties, MeterRegistry meterRegistry)
+        throws IOException {
+        this.pdfExportService = pdfExportService;
+        this.properties = properties;
+        this.spoolDirectory = Files.createDirectories(Path.of(properties.getSpoolDirectory()));
+        BlockingQueue<Runnable> queue = properties.getMaxQueuedJobs() > 0
+            ? new ArrayBlockingQueue<>(properties.getMaxQueuedJobs())
+            : new SynchronousQueue<>();
+        this.executor = new ThreadPoolExecutor(
+            properties.getMaxConcurrentJobs(),
+            properties.getMaxConcurrentJobs(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            queue,
+            Thread.ofVirtual().name("pdf-export-", 0).factory()
+        );
+        Gauge.builder("kanban.export.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("PDF export jobs waiting for a worker")
+            .register(meterRegistry);
+        Gauge.builder("kanban.export.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("PDF export jobs currently rendering")
+            .register(meterRegistry);
+    }
+
+    public ExportJobResponse submit(UserAccount user) {
+        ExportJob job = new ExportJob(UUID.randomUUID().toString(), user.getId());
+        synchronized (jobs) {
+            makeRoomFor(user.getId());
+            jobs.put(job.id, job);
+        }
+        try {
+            executor.execute(() -> run(job, user));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.id);
+            throw new ServiceBusyException("Fila de exportacao cheia, tente novamente em instantes");
+        }
+        return job.toResponse();
+    }
+
+    public ExportJobResponse getJob(UserAccount user, String jobId) {
+        return findJob(user, jobId).toResponse();
+    }
+
+    /**
+     * Opens the PDF of a completed job, or returns empty while the job is still queued or running.
+     * The job counts as being downloaded until the returned stream is closed.
+     */
+    public Optional<InputStream> openResult(UserAccount user, String jobId) throws IOException {
+        synchronized (jobs) {
+            ExportJob job = findJob(user, jobId);
+            if (job.status != JobStatus.COMPLETED) {
+                return Optional.empty();
+            }
+            InputStream inputStream = Files.newInputStream(job.file);
+            job.downloads.incrementAndGet();
+            return Optional.of(new DownloadStream(inputStream, job));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.export.cleanup-interval:60000}")
+    public void purgeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(properties.getResultTtl());
+        synchronized (jobs) {
+            jobs.values().removeIf(job -> {
+                if (job.completedAt == null || job.completedAt.isAfter(cutoff) || job.downloads.get() > 0) {
+                    return false;
+                }
+                deleteQuietly(job.file);
+                return true;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        jobs.values().forEach(job -> deleteQuietly(job.file));
+    }
+
+    private void run(ExportJob job, UserAccount user) {
+        job.status = JobStatus.RUNNING;
+        Path file = null;
+        try {
+            file = Files.createTempFile(spoolDirectory, "export-", ".pdf");
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(file))) {
+                pdfExportService.exportTasks(user, outputStream);
+            }
+            job.file = file;
+            job.sizeBytes = Files.size(file);
+            job.completedAt = Instant.now();
+            job.status = JobStatus.COMPLETED;
+        } catch (IOException | RuntimeException ex) {
+            log.warn("PDF export job {} failed", job.id, ex);
+            deleteQuietly(file);
+            job.error = "Nao foi possivel gerar o PDF";
+            job.completedAt = Instant.now();
+            job.status = JobStatus.FAILED;
+        }
+    }
+
+    private void makeRoomFor(Long ownerId) {
+        List<ExportJob> owned = jobs.values().stream()
+            .filter(job -> job.ownerId.equals(ownerId))
+            .toList();
+        int excess = owned.size() - properties.getMaxRetainedJobsPerOwner() + 1;
+        if (excess <= 0) {
+            return;
+        }
+        List<ExportJob> evicted = owned.stream()
+            .filter(job -> job.completedAt != null && job.downloads.get() == 0)
+            .sorted(Comparator.comparing((ExportJob job) -> job.createdAt))
+            .limit(excess)
+            .toList();
+        if (evicted.size() < excess) {
+            throw new ServiceBusyException("Exportacoes anteriores ainda em andamento, tente novamente em instantes");
+        }
+        evicted.forEach(job -> {
+            jobs.remove(job.id);
+            deleteQuietly(job.file);
+        });
+    }
+
+    private ExportJob findJob(UserAccount user, String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null || !job.ownerId.equals(user.getId())) {
+            throw new EntityNotFoundException("Exportacao nao encontrada");
+        }
+        return job;
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            log.warn("Could not delete export file {}", file, ex);
+        }
+    }
+
+    private static final class ExportJob {
+
+        private final String id;
+        private final Long ownerId;
+        private final Instant createdAt = Instant.now();
+        private final AtomicInteger downloads = new AtomicInteger();
+        private volatile JobStatus status = JobStatus.QUEUED;
+        private volatile Instant completedAt;
+        private volatile Path file;
+        private volatile Long sizeBytes;
+        private volatile String error;
+
+        private ExportJob(String id, Long ownerId) {
+            this.id = id;
+            this.ownerId = ownerId;
+        }
+
+        private ExportJobResponse toResponse() {
+            return new ExportJobResponse(id, status.name(), createdAt, completedAt, sizeBytes, error);
+        }
+    }
+
+    /**
+     * Result file stream that releases its job for eviction when closed.
+     */
+    private static final class DownloadStream extends FilterInputStream {
+
+        private final ExportJob job;
+        private boolean closed;
+
+        private DownloadStream(InputStream inputStream, ExportJob job) {
+            super(inputStream);
+            this.job = job;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } finally {
+                job.downloads.decrementAndGet();
+            }
+        }
+    }
+}
@@ -14,16 +14,28 @@ import com.lowagie.text.Phrase;
 import com.lowagie.text.pdf.PdfPCell;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * Renders boards to PDF. Each export is timed as {@code kanban.export.pdf.duration} and its output
+ * size recorded as {@code kanban.export.pdf.size}, tagged by whether the board came from memory
+ * ({@code buffered}) or was streamed from the database ({@code streamed}).
+ */
 @Service
 public class PdfExportService {
 
@@ -31,59 +43,168 @@ public class PdfExportService {
         .withLocale(new Locale("pt", "BR"));
     private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")
         .withLocale(new Locale("pt", "BR"));
+    private static final int FLUSH_EVERY_ROWS = 100;
+    private static final double[] SIZE_BUCKETS = {16 * 1024, 64 * 1024, 256 * 1024, 1024 * 1024, 4 * 1024 * 1024, 16 * 1024 * 1024};
+
+    private final TaskExportService taskExportService;
+    private final MeterRegistry meterRegistry;
+
+    public PdfExportService(TaskExportService taskExportService, MeterRegistry meterRegistry) {
+        this.taskExportService = taskExportService;
+        this.meterRegistry = meterRegistry;
+    }
 
     public byte[] exportTasks(UserAccount user, List<TaskResponse> tasks) {
-        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            Document document = new Document(PageSize.A4, 36, 36, 54, 54);
-            PdfWriter.getInstance(document, outputStream);
-            document.open();
-
-            Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
-            Font subtitleFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
-            document.add(new Paragraph("Kanban de Tarefas", titleFont));
-            document.add(new Paragraph("Usuario: " + user.getFullName(), subtitleFont));
-            document.add(new Paragraph("Gerado em: " + DATE_TIME_FORMAT.format(Instant.now().atZone(ZoneId.systemDefault())), subtitleFont));
-            document.add(new Paragraph(" "));
+        long start = System.nanoTime();
+        boolean completed = false;
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            BoardPdfWriter writer = new BoardPdfWriter(user, outputStream);
+            tasks.stream()
+                .sorted(Comparator.comparing(TaskResponse::status).thenComparing(TaskResponse::position))
+                .forEach(writer::add);
+            writer.close();
+            completed = true;
+        } finally {
+            recordExport("buffered", start, completed, outputStream.size());
+        }
+        return outputStream.toByteArray();
+    }
 
-            if (tasks.isEmpty()) {
-                document.add(new Paragraph("Nenhuma tarefa encontrada."));
-            } else {
-                for (TaskStatus status : TaskStatus.values()) {
-                    List<TaskResponse> statusTasks = tasks.stream()
-                        .filter(task -> task.status() == status)
-                        .sorted(Comparator.comparing(TaskResponse::position))
-                        .toList();
-
-                    if (statusTasks.isEmpty()) {
-                        continue;
-                    }
-
-                    document.add(new Paragraph("Secao: " + translateStatus(status), FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14)));
-                    document.add(new Paragraph(" "));
-
-                    PdfPTable table = new PdfPTable(new float[]{3, 6, 2, 2});
-                    table.setWidthPercentage(100f);
-                    addHeaderCell(table, "Titulo");
-                    addHeaderCell(table, "Descricao");
-                    addHeaderCell(table, "Prioridade");
-                    addHeaderCell(table, "Entrega");
-
-                    for (TaskResponse task : statusTasks) {
-                        table.addCell(safeText(task.title()));
-                        table.addCell(safeText(task.description()));
-                        table.addCell(translatePriority(task.priority()));
-                        table.addCell(task.dueDate() != null ? DATE_FORMAT.format(task.dueDate()) : "-");
-                    }
+    /**
+     * Streams the owner's board to {@code sink}, opened at the revision the board is read at, in
+     * one read-only transaction. Nothing is rendered when the sink declines.
+     */
+    @Transactional(readOnly = true)
+    public void exportTasks(UserAccount user, TaskExportService.ExportSink sink) throws IOException {
+        OutputStream outputStream = taskExportService.open(user, sink);
+        if (outputStream != null) {
+            exportTasks(user, outputStream);
+        }
+    }
+
+    /**
+     * Writes the owner's board straight to {@code outputStream} while the tasks are read from the
+     * database, flushing table rows every {@value #FLUSH_EVERY_ROWS} tasks so memory stays bounded.
+     */
+    public void exportTasks(UserAccount user, OutputStream outputStream) {
+        long start = System.nanoTime();
+        boolean completed = false;
+        CountingOutputStream countingStream = new CountingOutputStream(outputStream);
+        try {
+            BoardPdfWriter writer = new BoardPdfWriter(user, countingStream);
+            taskExportService.forEachTask(user, writer::add);
+            writer.close();
+            completed = true;
+        } finally {
+            recordExport("streamed", start, completed, countingStream.count);
+        }
+    }
 
+    private void recordExport(String source, long startNanos, boolean completed, long bytes) {
+        Timer.builder("kanban.export.pdf.duration")
+            .description("Time to render a board to PDF")
+            .tag("source", source)
+            .tag("outcome", completed ? "success" : "failure")
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (completed) {
+            DistributionSummary.builder("kanban.export.pdf.size")
+                .description("Size of generated PDF documents")
+                .baseUnit("bytes")
+                .tag("source", source)
+                .serviceLevelObjectives(SIZE_BUCKETS)
+                .register(meterRegistry)
+                .record(bytes);
+        }
+    }
+
+    /**
+     * Single-pass PDF writer: expects tasks grouped by status and opens a new section whenever the
+     * status changes.
+     */
+    private final class BoardPdfWriter {
+
+        private final Document document;
+        private TaskStatus currentStatus;
+        private PdfPTable table;
+        private int pendingRows;
+        private long taskCount;
+
+        BoardPdfWriter(UserAccount user, OutputStream outputStream) {
+            try {
+                document = new Document(PageSize.A4, 36, 36, 54, 54);
+                PdfWriter.getInstance(document, outputStream);
+                document.open();
+
+                Font titleFont = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
+                Font subtitleFont = FontFactory.getFont(FontFactory.HELVETICA, 12);
+                document.add(new Paragraph("Kanban de Tarefas", titleFont));
+                document.add(new Paragraph("Usuario: " + user.getFullName(), subtitleFont));
+                document.add(new Paragraph("Gerado em: " + DATE_TIME_FORMAT.format(Instant.now().atZone(ZoneId.systemDefault())), subtitleFont));
+                document.add(new Paragraph(" "));
+            } catch (DocumentException ex) {
+                throw new IllegalStateException("Nao foi possivel gerar o PDF", ex);
+            }
+        }
+
+        void add(TaskResponse task) {
+            try {
+                if (task.status() != currentStatus) {
+                    finishSection();
+                    startSection(task.status());
+                }
+                table.addCell(safeText(task.title()));
+                table.addCell(safeText(task.description()));
+                table.addCell(translatePriority(task.priority()));
+                table.addCell(task.dueDate() != null ? DATE_FORMAT.format(task.dueDate()) : "-");
+                taskCount++;
+                if (++pendingRows >= FLUSH_EVERY_ROWS) {
                     document.add(table);
-                    document.add(new Paragraph(" "));
+                    pendingRows = 0;
                 }
+            } catch (DocumentException ex) {
+                throw new IllegalStateException("Nao foi possivel gerar o PDF", ex);
             }
+        }
+
+        void close() {
+            try {
+                finishSection();
+                if (taskCount == 0) {
+                    document.add(new Paragraph("Nenhuma tarefa encontrada."));
+                }
+                document.close();
+            } catch (DocumentException ex) {
+                throw new IllegalStateException("Nao foi possivel gerar o PDF", ex);
+            }
+        }
 
-            document.close();
-            return outputStream.toByteArray();
-        } catch (DocumentException | IOException ex) {
-            throw new IllegalStateException("Nao foi possivel gerar o PDF", ex);
+        private void startSection(TaskStatus status) throws DocumentException {
+            currentStatus = status;
+            document.add(new Paragraph("Secao: " + translateStatus(status), FontFactory.getFont(FontFactory.HELVETICA_BOLD, 14)));
+            document.add(new Paragraph(" "));
+
+            table = new PdfPTable(new float[]{3, 6, 2, 2});
+            table.setWidthPercentage(100f);
+            table.setHeaderRows(1);
+            table.setComplete(false);
+            addHeaderCell(table, "Titulo");
+            addHeaderCell(table, "Descricao");
+            addHeaderCell(table, "Prioridade");
+            addHeaderCell(table, "Entrega");
+            pendingRows = 0;
+        }
+
+        private void finishSection() throws DocumentException {
+            if (table == null) {
+                return;
+            }
+            table.setComplete(true);
+            document.add(table);
+            document.add(new Paragraph(" "));
+            table = null;
         }
     }
 
@@ -115,4 +236,25 @@ public class PdfExportService {
             case HIGH -> "Alta";
         };
     }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
 }
@@ -0,0 +1,30 @@
+package com.example.kanban.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Delta-sync watermark: the board revision the client has seen and when it was issued, so tokens
+ * older than the tombstone retention can be told to resync. Serialized as an opaque token.
+ */
+record SyncWatermark(long revision, Instant issuedAt) {
+
+    String encode() {
+        String raw = revision + ":" + issuedAt.toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncWatermark decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Watermark invalido");
+            }
+            return new SyncWatermark(Long.parseLong(parts[0]), Instant.ofEpochMilli(Long.parseLong(parts[1])));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Watermark invalido");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.kanban.service;
+
+import com.example.kanban.model.TaskStatus;
+
+/**
+ * Published by {@link TaskService} inside the mutating transaction; listeners that need committed
+ * state subscribe with {@code @TransactionalEventListener}.
+ */
+public record TaskChangeEvent(
+    Long ownerId,
+    Type type,
+    Long taskId,
+    TaskStatus status,
+    Integer position,
+    long revision
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        MOVED,
+        DELETED
+    }
+}
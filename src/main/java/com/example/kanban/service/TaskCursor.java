@@ -0,0 +1,36 @@
+package com.example.kanban.service;
+
+import com.example.kanban.model.TaskStatus;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last task returned in a page: the seek key {@code (status, position, id)}
+ * plus the dense index the next task of the same column starts at. Serialized as an opaque
+ * URL-safe token.
+ */
+record TaskCursor(TaskStatus status, int position, long id, int nextIndex) {
+
+    String encode() {
+        String raw = status.name() + ":" + position + ":" + id + ":" + nextIndex;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Cursor invalido");
+            }
+            return new TaskCursor(
+                TaskStatus.valueOf(parts[0]),
+                Integer.parseInt(parts[1]),
+                Long.parseLong(parts[2]),
+                Integer.parseInt(parts[3])
+            );
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Cursor invalido");
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.ExportProperties;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams whole boards out of the database for the PDF, NDJSON and CSV exports. The board is read
+ * through one forward-only cursor in board order (status, then position), {@code
+ * kanban.export.fetch-size} rows per round trip, as {@link TaskResponse} projections that never
+ * enter the persistence context, and every row is handed on as soon as it is read, so memory stays
+ * flat whatever the size of the board. A single statement also means a task moved between columns
+ * during the export shows up exactly once. NDJSON and CSV exports are timed as {@code
+ * kanban.export.stream.duration}, tagged by format and outcome.
+ */
+@Service
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,position,dueDate,createdAt,updatedAt";
+
+    private static final String BOARD_VIEW = """
+        select new com.example.kanban.dto.TaskResponse(
+            t.id, t.title, t.description, t.status, t.priority,
+            t.position,
+            t.dueDate, t.createdAt, t.updatedAt)
+        from KanbanTask t
+        where t.owner = :owner
+        order by t.status, t.position, t.id
+        """;
+
+    private final EntityManager entityManager;
+    private final ExportProperties properties;
+    private final ObjectWriter rowWriter;
+    private final MeterRegistry meterRegistry;
+    private final BoardVersionService boardVersionService;
+
+    public TaskExportService(
+        EntityManager entityManager,
+        ExportProperties properties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        BoardVersionService boardVersionService
+    ) {
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.rowWriter = objectMapper.writerFor(TaskResponse.class);
+        this.meterRegistry = meterRegistry;
+        this.boardVersionService = boardVersionService;
+    }
+
+    /**
+     * Destination of an export, opened with the board revision the export is read at so the
+     * caller can validate against it before any row is read.
+     */
+    @FunctionalInterface
+    public interface ExportSink {
+
+        /**
+         * Returns the stream to write to, or {@code null} when the caller already holds
+         * {@code revision} and nothing should be written.
+         */
+        OutputStream open(long revision) throws IOException;
+    }
+
+    /**
+     * Hands the owner's board to {@code consumer} in board order, with dense per-column positions,
+     * without materializing it.
+     */
+    @Transactional(readOnly = true)
+    public void forEachTask(UserAccount owner, Consumer<TaskResponse> consumer) {
+        scan(owner, consumer);
+    }
+
+    /**
+     * Reads the owner's revision in the transaction that will read the rows, before them, and
+     * opens {@code sink} at it. The rows are then at that revision or a later one, never an
+     * earlier one, so a validator built from the revision cannot vouch for a newer board than the
+     * body it is sent with. Returns {@code null} when the sink declines.
+     */
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public OutputStream open(UserAccount owner, ExportSink sink) throws IOException {
+        return sink.open(boardVersionService.currentVersion(owner));
+    }
+
+    /**
+     * Writes the board as NDJSON to {@code sink}, opened at the revision the rows are read at.
+     */
+    @Transactional(readOnly = true)
+    public void writeNdjson(UserAccount owner, ExportSink sink) throws IOException {
+        OutputStream outputStream = open(owner, sink);
+        if (outputStream != null) {
+            writeNdjson(owner, outputStream);
+        }
+    }
+
+    /**
+     * Writes the board as CSV to {@code sink}, opened at the revision the rows are read at.
+     */
+    @Transactional(readOnly = true)
+    public void writeCsv(UserAccount owner, ExportSink sink) throws IOException {
+        OutputStream outputStream = open(owner, sink);
+        if (outputStream != null) {
+            writeCsv(owner, outputStream);
+        }
+    }
+
+    /**
+     * Writes the board as one JSON object per line, in the shape of {@code GET /api/tasks}.
+     */
+    @Transactional(readOnly = true)
+    public void writeNdjson(UserAccount owner, OutputStream outputStream) throws IOException {
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            unchecked(() -> scan(owner, task -> {
+                try {
+                    outputStream.write(rowWriter.writeValueAsBytes(task));
+                    outputStream.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+            outputStream.flush();
+            completed = true;
+        } finally {
+            recordExport("ndjson", start, completed);
+        }
+    }
+
+    /**
+     * Writes the board as RFC 4180 CSV with a header row; the file can be fed back to
+     * {@code POST /api/tasks/import}, which reads the title, description, priority and dueDate
+     * columns and ignores the rest.
+     */
+    @Transactional(readOnly = true)
+    public void writeCsv(UserAccount owner, OutputStream outputStream) throws IOException {
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+            unchecked(() -> scan(owner, task -> {
+                try {
+                    writeCsvRow(writer, task);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+            writer.flush();
+            completed = true;
+        } finally {
+            recordExport("csv", start, completed);
+        }
+    }
+
+    private void scan(UserAccount owner, Consumer<TaskResponse> consumer) {
+        try (Stream<TaskResponse> rows = entityManager.createQuery(BOARD_VIEW, TaskResponse.class)
+            .setParameter("owner", owner)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, properties.getFetchSize())
+            .getResultStream()) {
+            TaskStatus[] status = {null};
+            int[] index = {0};
+            rows.forEach(row -> {
+                if (row.status() != status[0]) {
+                    status[0] = row.status();
+                    index[0] = 0;
+                }
+                consumer.accept(atPosition(row, index[0]++));
+            });
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, TaskResponse task) throws IOException {
+        writer.write(String.valueOf(task.id()));
+        writer.write(',');
+        writer.write(csvField(task.title()));
+        writer.write(',');
+        writer.write(csvField(task.description()));
+        writer.write(',');
+        writer.write(task.status().name());
+        writer.write(',');
+        writer.write(task.priority() != null ? task.priority().name() : "");
+        writer.write(',');
+        writer.write(String.valueOf(task.position()));
+        writer.write(',');
+        writer.write(task.dueDate() != null ? task.dueDate().toString() : "");
+        writer.write(',');
+        writer.write(task.createdAt() != null ? task.createdAt().toString() : "");
+        writer.write(',');
+        writer.write(task.updatedAt() != null ? task.updatedAt().toString() : "");
+        writer.write("\r\n");
+    }
+
+    /**
+     * Quotes a field that holds a comma, quote or line break, doubling embedded quotes.
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    private static TaskResponse atPosition(TaskResponse row, int position) {
+        if (Objects.equals(row.position(), position)) {
+            return row;
+        }
+        return new TaskResponse(
+            row.id(),
+            row.title(),
+            row.description(),
+            row.status(),
+            row.priority(),
+            position,
+            row.dueDate(),
+            row.createdAt(),
+            row.updatedAt()
+        );
+    }
+
+    private static void unchecked(Runnable scan) throws IOException {
+        try {
+            scan.run();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void recordExport(String format, long startNanos, boolean completed) {
+        Timer.builder("kanban.export.stream.duration")
+            .description("Time to stream a board export")
+            .tag("format", format)
+            .tag("outcome", completed ? "success" : "failure")
+            .register(meterRegistry)
+            .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
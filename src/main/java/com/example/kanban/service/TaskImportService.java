@@ -0,0 +1,311 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.TaskImportProperties;
+import com.example.kanban.dto.TaskImportError;
+import com.example.kanban.dto.TaskImportResponse;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.UserAccount;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Bulk import of tasks from an NDJSON or CSV body, read one record at a time straight off the
+ * request stream. Each record is validated like a {@link TaskRequest} posted to
+ * {@code /api/tasks}; valid ones go to {@link TaskService#importTasks} in chunks of
+ * {@code kanban.tasks.import.chunk-size}, each committed in its own transaction, and rejected ones
+ * are reported by line. At most one chunk is held in memory, and chunks committed before a failure
+ * stay committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final TaskService taskService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TaskImportProperties properties;
+
+    public TaskImportResponse importTasks(UserAccount owner, InputStream body, Format format) throws IOException {
+        long started = System.nanoTime();
+        RecordReader reader = new RecordReader(
+            new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), properties.getMaxRecordLength()
+        );
+        Map<String, Integer> columns = format == Format.CSV ? csvColumns(reader) : Map.of();
+
+        List<TaskImportError> errors = new ArrayList<>();
+        int imported = 0;
+        int rejected = 0;
+        int chunks = 0;
+        List<TaskRequest> chunk = new ArrayList<>(properties.getChunkSize());
+        Record record;
+        while ((record = format == Format.CSV ? reader.nextCsvRecord() : reader.nextLine()) != null) {
+            if (record.isBlank()) {
+                continue;
+            }
+            Map<String, String> fieldErrors = Map.of();
+            String message = record.error();
+            if (message == null) {
+                try {
+                    TaskRequest request = format == Format.CSV ? fromCsv(record.fields(), columns) : fromJson(record.fields().get(0));
+                    fieldErrors = violations(request);
+                    if (fieldErrors.isEmpty()) {
+                        chunk.add(request);
+                    } else {
+                        message = "Dados invalidos";
+                    }
+                } catch (IllegalArgumentException ex) {
+                    message = ex.getMessage();
+                }
+            }
+            if (message != null) {
+                rejected++;
+                if (errors.size() < properties.getMaxReportedErrors()) {
+                    errors.add(new TaskImportError(record.line(), message, fieldErrors));
+                }
+            }
+            if (chunk.size() >= properties.getChunkSize()) {
+                taskService.importTasks(owner, chunk);
+                imported += chunk.size();
+                chunks++;
+                chunk = new ArrayList<>(properties.getChunkSize());
+            }
+        }
+        if (!chunk.isEmpty()) {
+            taskService.importTasks(owner, chunk);
+            imported += chunk.size();
+            chunks++;
+        }
+        log.info("Imported {} tasks for owner {} in {} chunks ({} rejected) in {} ms",
+            imported, owner.getId(), chunks, rejected, (System.nanoTime() - started) / 1_000_000);
+        return new TaskImportResponse(imported, rejected, chunks, errors, errors.size() < rejected);
+    }
+
+    /**
+     * Reads the header: column names are matched case-insensitively, unknown ones are ignored and
+     * only {@code title} is required.
+     */
+    private static Map<String, Integer> csvColumns(RecordReader reader) throws IOException {
+        Record header;
+        do {
+            header = reader.nextCsvRecord();
+        } while (header != null && header.isBlank());
+        if (header == null) {
+            return Map.of();
+        }
+        if (header.error() != null) {
+            throw new IllegalArgumentException("Cabecalho CSV invalido: " + header.error());
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.fields().size(); i++) {
+            String name = header.fields().get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.putIfAbsent(name, i);
+        }
+        if (!columns.containsKey("title")) {
+            throw new IllegalArgumentException("Cabecalho CSV deve conter a coluna title");
+        }
+        return columns;
+    }
+
+    private TaskRequest fromJson(String line) {
+        try {
+            TaskRequest request = objectMapper.readValue(line, TaskRequest.class);
+            if (request == null) {
+                throw new IllegalArgumentException("JSON invalido");
+            }
+            return request;
+        } catch (JsonMappingException ex) {
+            if (!ex.getPath().isEmpty() && ex.getPath().get(0).getFieldName() != null) {
+                throw new IllegalArgumentException("Valor invalido para " + ex.getPath().get(0).getFieldName());
+            }
+            throw new IllegalArgumentException("JSON invalido");
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("JSON invalido");
+        }
+    }
+
+    private static TaskRequest fromCsv(List<String> fields, Map<String, Integer> columns) {
+        String priority = value(fields, columns, "priority");
+        String dueDate = value(fields, columns, "duedate");
+        return new TaskRequest(
+            value(fields, columns, "title"),
+            value(fields, columns, "description"),
+            dueDate != null ? parseDate(dueDate) : null,
+            priority != null ? parsePriority(priority) : null
+        );
+    }
+
+    private static String value(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isBlank()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Data invalida: " + value);
+        }
+    }
+
+    private static TaskPriority parsePriority(String value) {
+        try {
+            return TaskPriority.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Prioridade invalida: " + value);
+        }
+    }
+
+    private Map<String, String> violations(TaskRequest request) {
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> fieldErrors = new LinkedHashMap<>();
+        for (ConstraintViolation<TaskRequest> violation : violations) {
+            fieldErrors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return fieldErrors;
+    }
+
+    /**
+     * One NDJSON line or CSV record, numbered by the line it starts on; {@code error} is set instead
+     * of {@code fields} when the record could not be read.
+     */
+    private record Record(long line, List<String> fields, String error) {
+
+        private boolean isBlank() {
+            return error == null && fields.size() == 1 && fields.get(0).isBlank();
+        }
+    }
+
+    /**
+     * Reads records off the body without ever holding more than {@code maxLength} characters of
+     * one; the rest of an oversized record is consumed and dropped.
+     */
+    private static final class RecordReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private long line;
+
+        private RecordReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        private Record nextLine() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            long start = ++line;
+            StringBuilder text = new StringBuilder();
+            boolean tooLong = false;
+            while (c != -1 && c != '\n') {
+                if (c != '\r') {
+                    if (text.length() < maxLength) {
+                        text.append((char) c);
+                    } else {
+                        tooLong = true;
+                    }
+                }
+                c = reader.read();
+            }
+            return tooLong ? tooLong(start) : new Record(start, List.of(text.toString()), null);
+        }
+
+        /**
+         * RFC 4180 record: comma separated, fields optionally quoted with {@code ""} as an escaped
+         * quote; a quoted field may span lines.
+         */
+        private Record nextCsvRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            long start = ++line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean fieldStart = true;
+            int length = 0;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        c = reader.read();
+                        if (c != '"') {
+                            quoted = false;
+                            continue;
+                        }
+                    } else if (c == '\n') {
+                        line++;
+                    }
+                } else if (c == '"' && fieldStart) {
+                    quoted = true;
+                    fieldStart = false;
+                    c = reader.read();
+                    continue;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    fieldStart = true;
+                    c = reader.read();
+                    continue;
+                } else if (c == '\n') {
+                    break;
+                } else if (c == '\r') {
+                    c = reader.read();
+                    continue;
+                }
+                fieldStart = false;
+                if (++length <= maxLength) {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            if (quoted) {
+                return new Record(start, List.of(), "Aspas nao fechadas");
+            }
+            if (length > maxLength) {
+                return tooLong(start);
+            }
+            fields.add(field.toString());
+            return new Record(start, fields, null);
+        }
+
+        private Record tooLong(long start) {
+            return new Record(start, List.of(), "Registro excede " + maxLength + " caracteres");
+        }
+    }
+}
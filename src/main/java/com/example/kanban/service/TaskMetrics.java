@@ -0,0 +1,65 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.TaskOrderingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Locale;
+import org.springframework.stereotype.Component;
+
+/**
+ * Meters for the cost of keeping columns ordered: how many task rows a single move or delete had
+ * to reposition, published as {@code kanban.tasks.rows.rewritten} tagged by operation and mode,
+ * and how often mutations lost an optimistic version check ({@code kanban.tasks.conflicts}).
+ */
+@Component
+public class TaskMetrics {
+
+    private static final double[] ROW_BUCKETS = {1, 2, 5, 10, 50, 100, 500, 1_000, 5_000, 10_000};
+
+    private final DistributionSummary moveRewrites;
+    private final DistributionSummary deleteRewrites;
+    private final Counter conflictsRetried;
+    private final Counter conflictsFailed;
+
+    public TaskMetrics(MeterRegistry meterRegistry, TaskOrderingProperties orderingProperties) {
+        String mode = orderingProperties.getMode().name().toLowerCase(Locale.ROOT);
+        this.moveRewrites = rowsRewritten(meterRegistry, "move", mode);
+        this.deleteRewrites = rowsRewritten(meterRegistry, "delete", mode);
+        this.conflictsRetried = conflicts(meterRegistry, "retried");
+        this.conflictsFailed = conflicts(meterRegistry, "failed");
+    }
+
+    private static Counter conflicts(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("kanban.tasks.conflicts")
+            .description("Mutations that hit a concurrent write, by whether they were retried or gave up")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static DistributionSummary rowsRewritten(MeterRegistry meterRegistry, String operation, String mode) {
+        return DistributionSummary.builder("kanban.tasks.rows.rewritten")
+            .description("Task rows repositioned by a single move or delete")
+            .baseUnit("rows")
+            .tag("operation", operation)
+            .tag("ordering", mode)
+            .serviceLevelObjectives(ROW_BUCKETS)
+            .register(meterRegistry);
+    }
+
+    void recordMove(int rows) {
+        moveRewrites.record(rows);
+    }
+
+    void recordDelete(int rows) {
+        deleteRewrites.record(rows);
+    }
+
+    void recordConflictRetried() {
+        conflictsRetried.increment();
+    }
+
+    void recordConflictFailed() {
+        conflictsFailed.increment();
+    }
+}
@@ -0,0 +1,383 @@
+package com.example.kanban.service;
+
+import com.example.kanban.config.TaskSearchProperties;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.dto.TaskSearchHit;
+import com.example.kanban.dto.TaskSearchResponse;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+
+/**
+ * Full-text index over task titles and descriptions, one inverted index per owner mapping each
+ * normalized term to the tasks that contain it. An owner's index is built from its
+ * {@link BoardCache} snapshot on the first search and then kept current by {@link #apply}, one
+ * board revision at a time like the snapshot itself; a revision gap drops it for a rebuild.
+ * Indexes are weighed by their estimated heap footprint, capped at
+ * {@code kanban.tasks.search.max-size} and softly referenced, so the collector can also reclaim
+ * them under memory pressure.
+ *
+ * <p>Terms are compared without case or accents, so "reuniao" also finds accented titles. Every
+ * query term must match, the last one as a prefix, and a term in the title scores three times one in the
+ * description. A query walks only the postings of its terms, so its cost follows the number of
+ * matching tasks rather than the size of the board.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final int GENERATION_STRIPES = 1024;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOPWORDS = Set.of(
+        "ao", "aos", "as", "com", "da", "das", "de", "do", "dos", "em", "na", "nas", "no", "nos",
+        "os", "ou", "para", "pela", "pelo", "por", "que", "se", "um", "uma"
+    );
+    /**
+     * Rough per-object heap costs behind {@link OwnerIndex#residentBytes()}: a document with its
+     * map entry and boxed id, one task in one term's postings, and a term with its tree entry and
+     * postings map, each before the characters they hold.
+     */
+    private static final long DOCUMENT_BYTES = 160;
+    private static final long POSTING_BYTES = 48;
+    private static final long TERM_BYTES = 160;
+    private static final Comparator<TaskSearchHit> RANKING = Comparator.comparingInt(TaskSearchHit::score)
+        .reversed()
+        .thenComparing(TaskSearchHit::id, Comparator.reverseOrder());
+
+    private final Cache<Long, OwnerIndex> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final BoardCache boardCache;
+
+    public TaskSearchIndex(TaskSearchProperties properties, BoardCache boardCache, MeterRegistry meterRegistry) {
+        this.boardCache = boardCache;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxSize().toBytes())
+            .weigher((Long ownerId, OwnerIndex index) -> (int) Math.min(Integer.MAX_VALUE, index.residentBytes()))
+            .expireAfterAccess(properties.getIdleTimeout())
+            .softValues()
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "search");
+        Gauge.builder("kanban.search.index.resident", cache, indexes -> indexes.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L))
+            .description("Estimated heap held by the search indexes in memory")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns one page of the owner's tasks matching every term of {@code query}, best first.
+     */
+    TaskSearchResponse search(UserAccount owner, String query, int page, int size) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty()) {
+            return new TaskSearchResponse(List.of(), 0, page, size);
+        }
+        String prefix = terms.get(terms.size() - 1);
+        Set<String> exact = new LinkedHashSet<>();
+        for (String term : terms.subList(0, terms.size() - 1)) {
+            if (!STOPWORDS.contains(term)) {
+                exact.add(term);
+            }
+        }
+        exact.remove(prefix);
+        return index(owner).search(exact, prefix, page, size);
+    }
+
+    /**
+     * Brings the owner's index up to the revision a mutation just committed. Must run after the
+     * commit, like {@link BoardCache#apply}.
+     */
+    void apply(Long ownerId, BoardWrites writes) {
+        generations.incrementAndGet(stripe(ownerId));
+        List<Document> written = writes.writtenTasks().stream().map(TaskSearchIndex::document).toList();
+        cache.asMap().computeIfPresent(ownerId, (id, index) -> {
+            if (writes.revision() <= index.revision()) {
+                return index;
+            }
+            if (writes.revision() != index.revision() + 1) {
+                return null;
+            }
+            index.apply(writes.revision(), written, writes.removedIds());
+            return index;
+        });
+    }
+
+    /**
+     * Returns the owner's index, building it from the board on a miss. An index built while a
+     * mutation was being applied is used for this search but not stored.
+     */
+    private OwnerIndex index(UserAccount owner) {
+        OwnerIndex cached = cache.getIfPresent(owner.getId());
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(owner.getId());
+        long generation = generations.get(stripe);
+        BoardSnapshot board = boardCache.board(owner);
+        OwnerIndex built = new OwnerIndex(board.revision());
+        built.apply(board.revision(), board.tasks().stream().map(TaskSearchIndex::document).toList(), Set.of());
+        cache.asMap().compute(owner.getId(), (ownerId, existing) -> {
+            if (generations.get(stripe) != generation) {
+                return existing;
+            }
+            return existing != null && existing.revision() >= built.revision() ? existing : built;
+        });
+        return built;
+    }
+
+    /**
+     * Splits text into lower-case, accent-free terms of at least two letters or digits, in order.
+     */
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(folded)) {
+            if (term.length() >= MIN_TERM_LENGTH) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private static Document document(KanbanTask task) {
+        return document(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+            task.getDueDate());
+    }
+
+    private static Document document(TaskResponse task) {
+        return document(task.id(), task.title(), task.description(), task.status(), task.priority(), task.dueDate());
+    }
+
+    private static Document document(
+        Long id,
+        String title,
+        String description,
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDate dueDate
+    ) {
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (String term : terms(title)) {
+            if (!STOPWORDS.contains(term)) {
+                scores.merge(term, TITLE_WEIGHT, Integer::sum);
+            }
+        }
+        for (String term : terms(description)) {
+            if (!STOPWORDS.contains(term)) {
+                scores.merge(term, DESCRIPTION_WEIGHT, Integer::sum);
+            }
+        }
+        String[] terms = scores.keySet().toArray(String[]::new);
+        int[] termScores = scores.values().stream().mapToInt(Integer::intValue).toArray();
+        return new Document(id, title, status, priority, dueDate, terms, termScores);
+    }
+
+    private static int stripe(Long ownerId) {
+        return Long.hashCode(ownerId) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * What the index keeps of a task: enough to render a hit, plus its terms and their scores so
+     * the task can be taken out of the postings again.
+     */
+    private record Document(
+        Long id,
+        String title,
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDate dueDate,
+        String[] terms,
+        int[] scores
+    ) {
+
+        private TaskSearchHit hit(int score) {
+            return new TaskSearchHit(id, title, status, priority, dueDate, score);
+        }
+
+        private long residentBytes() {
+            return DOCUMENT_BYTES + 2L * title.length() + (long) terms.length * (Integer.BYTES + Integer.BYTES);
+        }
+    }
+
+    private static final class OwnerIndex {
+
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Document> documents = new HashMap<>();
+        private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        private volatile long revision;
+        private volatile long residentBytes;
+
+        private OwnerIndex(long revision) {
+            this.revision = revision;
+        }
+
+        private long revision() {
+            return revision;
+        }
+
+        private long residentBytes() {
+            return residentBytes;
+        }
+
+        private void apply(long revision, List<Document> written, Set<Long> removed) {
+            lock.writeLock().lock();
+            try {
+                removed.forEach(this::remove);
+                for (Document document : written) {
+                    remove(document.id());
+                    add(document);
+                }
+                this.revision = revision;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private TaskSearchResponse search(Set<String> exact, String prefix, int page, int size) {
+            lock.readLock().lock();
+            try {
+                List<Map<Long, Integer>> matches = new ArrayList<>(exact.size() + 1);
+                for (String term : exact) {
+                    Map<Long, Integer> posting = postings.get(term);
+                    if (posting == null) {
+                        return new TaskSearchResponse(List.of(), 0, page, size);
+                    }
+                    matches.add(posting);
+                }
+                Map<Long, Integer> prefixed = prefixed(prefix);
+                if (prefixed.isEmpty()) {
+                    return new TaskSearchResponse(List.of(), 0, page, size);
+                }
+                matches.add(prefixed);
+                matches.sort(Comparator.comparingInt(Map::size));
+
+                Map<Long, Integer> scores = new HashMap<>(matches.get(0));
+                for (int i = 1; i < matches.size() && !scores.isEmpty(); i++) {
+                    Map<Long, Integer> posting = matches.get(i);
+                    for (Iterator<Map.Entry<Long, Integer>> it = scores.entrySet().iterator(); it.hasNext(); ) {
+                        Map.Entry<Long, Integer> entry = it.next();
+                        Integer score = posting.get(entry.getKey());
+                        if (score == null) {
+                            it.remove();
+                        } else {
+                            entry.setValue(entry.getValue() + score);
+                        }
+                    }
+                }
+                return page(scores, page, size);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * Tasks holding any term that starts with {@code prefix}, each scored by its best such term.
+         */
+        private Map<Long, Integer> prefixed(String prefix) {
+            NavigableMap<String, Map<Long, Integer>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+            Map.Entry<String, Map<Long, Integer>> first = range.firstEntry();
+            if (first == null) {
+                return Map.of();
+            }
+            if (range.lastEntry() == first) {
+                return first.getValue();
+            }
+            Map<Long, Integer> merged = new HashMap<>();
+            range.values().forEach(posting -> posting.forEach((id, score) -> merged.merge(id, score, Math::max)));
+            return merged;
+        }
+
+        /**
+         * Keeps only the best {@code (page + 1) * size} matches in a heap instead of sorting them all.
+         */
+        private TaskSearchResponse page(Map<Long, Integer> scores, int page, int size) {
+            int total = scores.size();
+            long from = (long) page * size;
+            if (from >= total) {
+                return new TaskSearchResponse(List.of(), total, page, size);
+            }
+            int keep = (int) Math.min(total, from + size);
+            PriorityQueue<TaskSearchHit> best = new PriorityQueue<>(keep + 1, RANKING.reversed());
+            scores.forEach((id, score) -> {
+                best.add(documents.get(id).hit(score));
+                if (best.size() > keep) {
+                    best.poll();
+                }
+            });
+            List<TaskSearchHit> ranked = new ArrayList<>(best);
+            ranked.sort(RANKING);
+            return new TaskSearchResponse(List.copyOf(ranked.subList((int) from, ranked.size())), total, page, size);
+        }
+
+        private void add(Document document) {
+            documents.put(document.id(), document);
+            long bytes = document.residentBytes();
+            for (int i = 0; i < document.terms().length; i++) {
+                String term = document.terms()[i];
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    posting = new HashMap<>();
+                    postings.put(term, posting);
+                    bytes += TERM_BYTES + 2L * term.length();
+                }
+                posting.put(document.id(), document.scores()[i]);
+                bytes += POSTING_BYTES;
+            }
+            residentBytes += bytes;
+        }
+
+        private void remove(Long id) {
+            Document document = documents.remove(id);
+            if (document == null) {
+                return;
+            }
+            long bytes = document.residentBytes();
+            for (String term : document.terms()) {
+                Map<Long, Integer> posting = postings.get(term);
+                posting.remove(id);
+                bytes += POSTING_BYTES;
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                    bytes += TERM_BYTES + 2L * term.length();
+                }
+            }
+            residentBytes -= bytes;
+        }
+    }
+}
@@ -1,107 +1,548 @@
 package com.example.kanban.service;
 
+import com.example.kanban.config.SyncProperties;
+import com.example.kanban.config.TaskConcurrencyProperties;
+import com.example.kanban.config.TaskOrderingProperties;
+import com.example.kanban.dto.TaskBatchOperation;
+import com.example.kanban.dto.TaskBatchRequest;
+import com.example.kanban.dto.TaskBatchResponse;
+import com.example.kanban.dto.TaskBatchResult;
+import com.example.kanban.dto.TaskChangesResponse;
 import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskPageResponse;
 import com.example.kanban.dto.TaskRequest;
 import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.dto.TaskSearchResponse;
 import com.example.kanban.dto.TaskUpdateRequest;
 import com.example.kanban.model.KanbanTask;
 import com.example.kanban.model.TaskPriority;
 import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.TaskTombstone;
 import com.example.kanban.model.UserAccount;
 import com.example.kanban.repository.KanbanTaskRepository;
+import com.example.kanban.repository.TaskTombstoneRepository;
 import jakarta.persistence.EntityNotFoundException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    public static final int MAX_PAGE_SIZE = 500;
+    public static final int MAX_SEARCH_PAGE_SIZE = 100;
+    public static final int MAX_QUERY_LENGTH = 200;
+
     private final KanbanTaskRepository kanbanTaskRepository;
+    private final TaskOrderingProperties orderingProperties;
+    private final BoardVersionService boardVersionService;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final SyncProperties syncProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskMetrics taskMetrics;
+    private final ColumnLocks columnLocks;
+    private final TaskConcurrencyProperties concurrencyProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardCache boardCache;
+    private final TaskSearchIndex taskSearchIndex;
+    private final BoardStatisticsService boardStatisticsService;
 
-    @Transactional(readOnly = true)
+    /**
+     * Board reads are answered from {@link BoardCache}; a miss selects straight into
+     * {@link TaskResponse}, so no entities are loaded or left behind in the persistence context.
+     */
     public List<TaskResponse> listTasks(UserAccount owner) {
-        return kanbanTaskRepository.findAllByOwnerOrderByStatusAscPositionAsc(owner).stream()
-            .map(this::toResponse)
-            .toList();
+        return boardCache.board(owner).tasks();
     }
 
-    @Transactional(readOnly = true)
     public List<TaskResponse> listTasksByStatus(UserAccount owner, TaskStatus status) {
-        return kanbanTaskRepository.findAllByOwnerAndStatusOrderByPosition(owner, status).stream()
-            .map(this::toResponse)
-            .toList();
+        return boardCache.board(owner).column(status);
+    }
+
+    /**
+     * The owner's board together with the revision it was read at. The cached board is brought up
+     * to date only after a mutation commits, so the version row may already be ahead of it; an
+     * ETag must come from this revision, never from the version row.
+     */
+    public BoardView board(UserAccount owner) {
+        return new BoardView(boardCache.board(owner));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPageResponse listTasksPage(UserAccount owner, TaskStatus status, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Tamanho de pagina deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        TaskCursor after = cursor != null && !cursor.isBlank() ? TaskCursor.decode(cursor) : null;
+        if (after != null && status != null && after.status() != status) {
+            throw new IllegalArgumentException("Cursor invalido");
+        }
+
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<KanbanTask> tasks;
+        if (status == null) {
+            tasks = after == null
+                ? kanbanTaskRepository.findPageByOwner(owner, page)
+                : kanbanTaskRepository.findPageByOwnerAfter(owner, after.status(), after.position(), after.id(), page);
+        } else {
+            tasks = after == null
+                ? kanbanTaskRepository.findPageByOwnerAndStatus(owner, status, page)
+                : kanbanTaskRepository.findPageByOwnerAndStatusAfter(owner, status, after.position(), after.id(), page);
+        }
+
+        boolean hasMore = tasks.size() > limit;
+        List<KanbanTask> pageTasks = hasMore ? tasks.subList(0, limit) : tasks;
+        List<TaskResponse> items = new ArrayList<>(pageTasks.size());
+        TaskStatus currentStatus = after != null ? after.status() : null;
+        int index = after != null ? after.nextIndex() : 0;
+        for (KanbanTask task : pageTasks) {
+            if (task.getStatus() != currentStatus) {
+                currentStatus = task.getStatus();
+                index = 0;
+            }
+            items.add(toResponse(task, index++));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            KanbanTask last = pageTasks.get(pageTasks.size() - 1);
+            nextCursor = new TaskCursor(last.getStatus(), last.getPosition(), last.getId(), index).encode();
+        }
+        return new TaskPageResponse(items, nextCursor);
     }
 
+    /**
+     * Ranks the owner's tasks against {@code query} from {@link TaskSearchIndex}; once the index is
+     * built a search touches no connection.
+     */
+    public TaskSearchResponse searchTasks(UserAccount owner, String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Termo de busca eh obrigatorio");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Termo de busca deve ter no maximo " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Pagina nao pode ser negativa");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Tamanho de pagina deve estar entre 1 e " + MAX_SEARCH_PAGE_SIZE);
+        }
+        return taskSearchIndex.search(owner, query, page, size);
+    }
+
+    /**
+     * Returns the tasks written and the ids deleted after the client's watermark, bounded by the
+     * board version read up front. Missing, future or expired watermarks get the full board with
+     * {@code resyncRequired} set for the latter two.
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponse listChanges(UserAccount owner, String since) {
+        long currentRevision = boardVersionService.currentVersion(owner);
+        Instant now = Instant.now();
+        String watermark = new SyncWatermark(currentRevision, now).encode();
+
+        SyncWatermark from = since != null && !since.isBlank() ? SyncWatermark.decode(since) : null;
+        if (from == null) {
+            return new TaskChangesResponse(listTasks(owner), List.of(), watermark, false);
+        }
+        Instant retentionHorizon = now.minus(syncProperties.getTombstoneRetention());
+        if (from.issuedAt().isBefore(retentionHorizon) || from.revision() > currentRevision) {
+            return new TaskChangesResponse(listTasks(owner), List.of(), watermark, true);
+        }
+
+        List<TaskResponse> changed = orderingProperties.isSparse()
+            ? kanbanTaskRepository.findChangedRankedViewBetween(owner, from.revision(), currentRevision)
+            : kanbanTaskRepository.findChangedViewBetween(owner, from.revision(), currentRevision);
+        List<Long> deletedIds = taskTombstoneRepository
+            .findDeletedTaskIds(owner.getId(), from.revision(), currentRevision);
+        return new TaskChangesResponse(changed, deletedIds, watermark, false);
+    }
+
+    @Scheduled(fixedDelayString = "${kanban.sync.purge-interval:3600000}")
     @Transactional
+    public void purgeExpiredTombstones() {
+        taskTombstoneRepository.deleteOlderThan(Instant.now().minus(syncProperties.getTombstoneRetention()));
+    }
+
     public TaskResponse createTask(UserAccount owner, TaskRequest request) {
-        KanbanTask task = new KanbanTask();
-        task.setOwner(owner);
-        task.setTitle(request.title().trim());
-        task.setDescription(normalizeDescription(request.description()));
-        task.setPriority(request.priority() != null ? request.priority() : TaskPriority.MEDIUM);
-        task.setStatus(TaskStatus.TODO);
-        task.setDueDate(request.dueDate());
-        int nextPosition = kanbanTaskRepository.countByOwnerAndStatus(owner, TaskStatus.TODO);
-        task.setPosition(nextPosition);
-        KanbanTask saved = kanbanTaskRepository.save(task);
-        return toResponse(saved);
+        return mutate(owner, () -> EnumSet.of(TaskStatus.TODO), (locked, writes) -> {
+            KanbanTask task = newTask(owner, request);
+            long revision = boardVersionService.increment(owner);
+            writes.at(revision);
+            task.setRevision(revision);
+            int nextPosition;
+            if (orderingProperties.isSparse()) {
+                task.setPosition(nextTailRank(owner, TaskStatus.TODO, revision, writes));
+                nextPosition = columnSize(owner, TaskStatus.TODO, revision);
+            } else {
+                Integer tail = tailPosition(owner, TaskStatus.TODO);
+                nextPosition = tail != null ? tail + 1 : 0;
+                task.setPosition(nextPosition);
+            }
+            KanbanTask saved = kanbanTaskRepository.save(task);
+            writes.written(saved, nextPosition);
+            writes.counts().add(saved);
+            return publish(owner, TaskChangeEvent.Type.CREATED, toResponse(saved, nextPosition), revision);
+        });
+    }
+
+    /**
+     * Appends already validated tasks to the TODO column as one board revision. Ranks are assigned
+     * up front from a single tail lookup, so the rows go out as JDBC insert batches; only when the
+     * rank space above the tail is too small is the column respread, new rows included.
+     */
+    public long importTasks(UserAccount owner, List<TaskRequest> requests) {
+        return mutate(owner, () -> EnumSet.of(TaskStatus.TODO), (locked, writes) -> {
+            long revision = boardVersionService.increment(owner);
+            writes.at(revision);
+            // Re-encoding the cached board once per chunk costs more than reloading it once.
+            writes.repositioned();
+            int firstIndex = columnSize(owner, TaskStatus.TODO, revision);
+            List<KanbanTask> tasks = new ArrayList<>(requests.size());
+            for (TaskRequest request : requests) {
+                KanbanTask task = newTask(owner, request);
+                task.setRevision(revision);
+                tasks.add(task);
+            }
+
+            Integer tail = tailPosition(owner, TaskStatus.TODO);
+            long base = tail != null ? tail : orderingProperties.isSparse() ? 0 : -1;
+            long step = orderingProperties.isSparse()
+                ? Math.min(orderingProperties.getGap(), (Integer.MAX_VALUE - 1 - base) / (tasks.size() + 1))
+                : 1;
+            if (step >= 1) {
+                for (int i = 0; i < tasks.size(); i++) {
+                    tasks.get(i).setPosition((int) (base + step * (i + 1)));
+                }
+                kanbanTaskRepository.saveAll(tasks);
+            } else {
+                List<KanbanTask> column = new ArrayList<>(
+                    kanbanTaskRepository.findAllByOwnerAndStatusOrderByPosition(owner, TaskStatus.TODO)
+                );
+                column.addAll(tasks);
+                spreadRanks(column, TaskStatus.TODO, revision);
+                kanbanTaskRepository.saveAll(column);
+            }
+
+            for (int i = 0; i < tasks.size(); i++) {
+                KanbanTask task = tasks.get(i);
+                writes.written(task, firstIndex + i);
+                writes.counts().add(task);
+                eventPublisher.publishEvent(new TaskChangeEvent(
+                    owner.getId(), TaskChangeEvent.Type.CREATED, task.getId(), TaskStatus.TODO, firstIndex + i, revision
+                ));
+            }
+            return revision;
+        });
     }
 
-    @Transactional
     public TaskResponse updateTask(Long taskId, UserAccount owner, TaskUpdateRequest request) {
-        KanbanTask task = kanbanTaskRepository.findByIdAndOwner(taskId, owner)
-            .orElseThrow(() -> new EntityNotFoundException("Tarefa nao encontrada"));
+        return mutate(owner, () -> columnsOf(taskId, owner, request.status()), (locked, writes) -> {
+            KanbanTask task = lockedTask(taskId, owner, locked);
+            writes.counts().remove(task);
+            long revision = boardVersionService.increment(owner);
+            writes.at(revision);
 
-        if (request.title() != null) {
-            String trimmedTitle = request.title().trim();
-            if (trimmedTitle.isEmpty()) {
-                throw new IllegalArgumentException("Titulo nao pode ficar vazio");
+            // Field changes are applied after the move's queries so auto-flush does not write the row twice.
+            if (request.status() != null && !Objects.equals(request.status(), task.getStatus())) {
+                TaskResponse moved = moveTaskInternal(
+                    task, owner, new TaskMoveRequest(request.status(), null), revision, writes
+                );
+                applyChanges(task, request);
+                task.setRevision(revision);
+                writes.counts().add(task);
+                return publish(owner, TaskChangeEvent.Type.MOVED, toResponse(task, moved.position()), revision);
+            }
+            applyChanges(task, request);
+            task.setRevision(revision);
+            int position = densePosition(owner, task);
+            writes.written(task, position);
+            writes.counts().add(task);
+            return publish(owner, TaskChangeEvent.Type.UPDATED, toResponse(task, position), revision);
+        });
+    }
+
+    public TaskResponse moveTask(Long taskId, UserAccount owner, TaskMoveRequest request) {
+        return mutate(owner, () -> columnsOf(taskId, owner, request.status()), (locked, writes) -> {
+            KanbanTask task = lockedTask(taskId, owner, locked);
+            writes.counts().remove(task);
+            long revision = boardVersionService.increment(owner);
+            writes.at(revision);
+            TaskResponse moved = moveTaskInternal(task, owner, request, revision, writes);
+            writes.counts().add(task);
+            return publish(owner, TaskChangeEvent.Type.MOVED, moved, revision);
+        });
+    }
+
+    public void deleteTask(Long taskId, UserAccount owner) {
+        mutate(owner, () -> columnsOf(taskId, owner, null), (locked, writes) -> {
+            KanbanTask task = lockedTask(taskId, owner, locked);
+            TaskStatus currentStatus = task.getStatus();
+            kanbanTaskRepository.delete(task);
+            long revision = boardVersionService.increment(owner);
+            writes.at(revision);
+            writes.removed(task.getId());
+            writes.counts().remove(task);
+            taskTombstoneRepository.save(new TaskTombstone(owner.getId(), task.getId(), revision));
+            eventPublisher.publishEvent(new TaskChangeEvent(
+                owner.getId(), TaskChangeEvent.Type.DELETED, task.getId(), currentStatus, null, revision
+            ));
+            if (!orderingProperties.isSparse()) {
+                int rewritten = reorderStatusPositions(owner, currentStatus, task.getId(), revision);
+                taskMetrics.recordDelete(rewritten);
+                if (rewritten > 0) {
+                    writes.repositioned();
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Applies an ordered list of operations in one transaction under a single board revision. The
+     * referenced tasks and every column they touch are loaded up front, the operations are replayed
+     * against those in-memory columns, and positions are assigned once per column at the end, so
+     * the resulting inserts, updates and deletes are flushed together as JDBC batches.
+     */
+    public TaskBatchResponse applyBatch(UserAccount owner, TaskBatchRequest request) {
+        return mutate(owner, () -> EnumSet.allOf(TaskStatus.class), (locked, writes) -> {
+            writes.repositioned();
+            return applyBatchInTransaction(owner, request, writes);
+        });
+    }
+
+    private TaskBatchResponse applyBatchInTransaction(UserAccount owner, TaskBatchRequest request, BoardWrites writes) {
+        List<TaskBatchOperation> operations = request.operations();
+        Set<Long> referencedIds = new HashSet<>();
+        EnumSet<TaskStatus> affectedStatuses = EnumSet.noneOf(TaskStatus.class);
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            validateOperation(i, operation);
+            switch (operation.type()) {
+                case CREATE -> affectedStatuses.add(TaskStatus.TODO);
+                case MOVE -> affectedStatuses.add(operation.move().status());
+                case UPDATE -> {
+                    if (operation.changes().status() != null) {
+                        affectedStatuses.add(operation.changes().status());
+                    }
+                }
+                case DELETE -> { }
+            }
+            if (operation.type() != TaskBatchOperation.Type.CREATE) {
+                referencedIds.add(operation.taskId());
             }
-            task.setTitle(trimmedTitle);
         }
-        if (request.description() != null) {
-            task.setDescription(normalizeDescription(request.description()));
+
+        long revision = boardVersionService.increment(owner);
+        writes.at(revision);
+        Map<Long, KanbanTask> tasksById = new HashMap<>();
+        if (!referencedIds.isEmpty()) {
+            for (KanbanTask task : kanbanTaskRepository.findAllByOwnerAndIdIn(owner, referencedIds)) {
+                tasksById.put(task.getId(), task);
+                affectedStatuses.add(task.getStatus());
+                writes.counts().remove(task);
+            }
         }
-        if (Boolean.TRUE.equals(request.removeDueDate())) {
-            task.setDueDate(null);
-        } else if (request.dueDate() != null) {
-            task.setDueDate(request.dueDate());
+        Map<TaskStatus, List<KanbanTask>> columns = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : affectedStatuses) {
+            columns.put(status, new ArrayList<>());
         }
-        if (request.priority() != null) {
-            task.setPriority(request.priority());
+        if (!affectedStatuses.isEmpty()) {
+            for (KanbanTask task : kanbanTaskRepository.findColumns(owner, affectedStatuses)) {
+                columns.get(task.getStatus()).add(task);
+            }
         }
-        if (request.status() != null && !Objects.equals(request.status(), task.getStatus())) {
-            return moveTaskInternal(task, owner, new TaskMoveRequest(request.status(), null));
+
+        // Entity status is only written once positions are assigned; until then this tracks the
+        // column each relocated or created task currently sits in.
+        Map<KanbanTask, TaskStatus> relocated = new IdentityHashMap<>();
+        Set<KanbanTask> deleted = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<KanbanTask> created = new ArrayList<>();
+        List<KanbanTask> targets = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            TaskBatchOperation operation = operations.get(i);
+            KanbanTask task;
+            if (operation.type() == TaskBatchOperation.Type.CREATE) {
+                task = newTask(owner, operation.task());
+                task.setRevision(revision);
+                columns.get(TaskStatus.TODO).add(task);
+                relocated.put(task, TaskStatus.TODO);
+                created.add(task);
+            } else {
+                task = tasksById.get(operation.taskId());
+                if (task == null || deleted.contains(task)) {
+                    throw new EntityNotFoundException("Operacao " + i + ": Tarefa nao encontrada");
+                }
+                task.setRevision(revision);
+                TaskStatus currentStatus = relocated.getOrDefault(task, task.getStatus());
+                switch (operation.type()) {
+                    case UPDATE -> {
+                        applyChanges(task, operation.changes());
+                        TaskStatus targetStatus = operation.changes().status();
+                        if (targetStatus != null && targetStatus != currentStatus) {
+                            relocate(columns, relocated, task, currentStatus, targetStatus, null);
+                        }
+                    }
+                    case MOVE -> relocate(
+                        columns, relocated, task, currentStatus, operation.move().status(), operation.move().newPosition()
+                    );
+                    case DELETE -> {
+                        columns.get(currentStatus).removeIf(existing -> existing == task);
+                        relocated.remove(task);
+                        deleted.add(task);
+                    }
+                    default -> throw new IllegalStateException();
+                }
+            }
+            targets.add(task);
         }
-        return toResponse(task);
+
+        Map<KanbanTask, Integer> denseIndex = new IdentityHashMap<>();
+        columns.forEach((status, column) -> {
+            if (orderingProperties.isSparse()) {
+                assignSparseRanks(column, status, relocated.keySet(), revision);
+            } else {
+                reorderSequentially(column, status, revision);
+            }
+            for (int i = 0; i < column.size(); i++) {
+                denseIndex.put(column.get(i), i);
+            }
+        });
+        kanbanTaskRepository.saveAll(created);
+        if (!deleted.isEmpty()) {
+            kanbanTaskRepository.deleteAll(deleted);
+            taskTombstoneRepository.saveAll(deleted.stream()
+                .map(task -> new TaskTombstone(owner.getId(), task.getId(), revision))
+                .toList());
+        }
+
+        List<TaskBatchResult> results = new ArrayList<>(operations.size());
+        Map<KanbanTask, TaskChangeEvent.Type> changes = new IdentityHashMap<>();
+        for (int i = 0; i < operations.size(); i++) {
+            KanbanTask task = targets.get(i);
+            TaskResponse response = deleted.contains(task) ? null : toResponse(task, denseIndex.get(task));
+            results.add(new TaskBatchResult(i, operations.get(i).type(), task.getId(), response));
+            changes.put(task, deleted.contains(task) ? TaskChangeEvent.Type.DELETED
+                : created.contains(task) ? TaskChangeEvent.Type.CREATED
+                : relocated.containsKey(task) ? TaskChangeEvent.Type.MOVED
+                : TaskChangeEvent.Type.UPDATED);
+        }
+        changes.forEach((task, type) -> {
+            if (type != TaskChangeEvent.Type.DELETED) {
+                writes.written(task, denseIndex.get(task));
+                writes.counts().add(task);
+            } else if (task.getId() != null) {
+                writes.removed(task.getId());
+            }
+            eventPublisher.publishEvent(new TaskChangeEvent(
+                owner.getId(), type, task.getId(), task.getStatus(), denseIndex.get(task), revision
+            ));
+        });
+        return new TaskBatchResponse(results, revision);
     }
 
-    @Transactional
-    public TaskResponse moveTask(Long taskId, UserAccount owner, TaskMoveRequest request) {
-        KanbanTask task = kanbanTaskRepository.findByIdAndOwner(taskId, owner)
+    /**
+     * Runs a board mutation under the in-process locks of the columns it touches, in its own
+     * transaction. Losing an optimistic version check, or finding the task moved to a column that
+     * was not locked, rolls back and starts over (columns re-resolved) up to
+     * {@code kanban.tasks.concurrency.max-attempts} times. The board counters are updated in the
+     * same transaction; what the committed attempt wrote is then applied to the cached board and
+     * the search index.
+     */
+    private <T> T mutate(
+        UserAccount owner,
+        Supplier<Set<TaskStatus>> columns,
+        BiFunction<Set<TaskStatus>, BoardWrites, T> work
+    ) {
+        for (int attempt = 1; ; attempt++) {
+            Set<TaskStatus> locked = columns.get();
+            BoardWrites writes = new BoardWrites();
+            try {
+                T result = columnLocks.withColumns(owner.getId(), locked, () -> transactionTemplate.execute(status -> {
+                    T written = work.apply(locked, writes);
+                    boardStatisticsService.apply(owner, writes.counts());
+                    return written;
+                }));
+                boardCache.apply(owner.getId(), writes);
+                taskSearchIndex.apply(owner.getId(), writes);
+                return result;
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= concurrencyProperties.getMaxAttempts()) {
+                    taskMetrics.recordConflictFailed();
+                    throw ex;
+                }
+                taskMetrics.recordConflictRetried();
+                backOff(attempt);
+            }
+        }
+    }
+
+    private void backOff(int attempt) {
+        long baseNanos = concurrencyProperties.getRetryBackoff().toNanos();
+        if (baseNanos <= 0) {
+            return;
+        }
+        long pause = baseNanos * attempt + ThreadLocalRandom.current().nextLong(baseNanos);
+        try {
+            TimeUnit.NANOSECONDS.sleep(pause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrencyFailureException("Operacao interrompida durante nova tentativa", ex);
+        }
+    }
+
+    private Set<TaskStatus> columnsOf(Long taskId, UserAccount owner, TaskStatus targetStatus) {
+        TaskStatus current = kanbanTaskRepository.findStatusByIdAndOwner(taskId, owner)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa nao encontrada"));
-        return moveTaskInternal(task, owner, request);
+        return targetStatus != null ? EnumSet.of(current, targetStatus) : EnumSet.of(current);
     }
 
-    @Transactional
-    public void deleteTask(Long taskId, UserAccount owner) {
+    private KanbanTask lockedTask(Long taskId, UserAccount owner, Set<TaskStatus> locked) {
         KanbanTask task = kanbanTaskRepository.findByIdAndOwner(taskId, owner)
             .orElseThrow(() -> new EntityNotFoundException("Tarefa nao encontrada"));
-        TaskStatus currentStatus = task.getStatus();
-        kanbanTaskRepository.delete(task);
-        reorderStatusPositions(owner, currentStatus, task.getId());
+        if (!locked.contains(task.getStatus())) {
+            throw new ConcurrencyFailureException("Tarefa mudou de coluna durante a operacao");
+        }
+        return task;
     }
 
-    private TaskResponse moveTaskInternal(KanbanTask task, UserAccount owner, TaskMoveRequest request) {
+    private TaskResponse moveTaskInternal(
+        KanbanTask task,
+        UserAccount owner,
+        TaskMoveRequest request,
+        long revision,
+        BoardWrites writes
+    ) {
         TaskStatus targetStatus = request.status();
         if (targetStatus == null) {
             throw new IllegalArgumentException("Status alvo eh obrigatorio");
         }
+        if (orderingProperties.isSparse()) {
+            return moveTaskSparse(task, owner, targetStatus, request.newPosition(), revision, writes);
+        }
 
         TaskStatus currentStatus = task.getStatus();
         List<KanbanTask> currentStatusTasks = new ArrayList<>(
@@ -110,7 +551,6 @@ public class TaskService {
         currentStatusTasks.removeIf(existing -> existing.getId().equals(task.getId()));
 
         if (!currentStatus.equals(targetStatus)) {
-            task.setStatus(targetStatus);
             kanbanTaskRepository.saveAll(currentStatusTasks);
         }
 
@@ -121,37 +561,327 @@ public class TaskService {
             targetStatusTasks = new ArrayList<>(
                 kanbanTaskRepository.findAllByOwnerAndStatusOrderByPosition(owner, targetStatus)
             );
+            targetStatusTasks.removeIf(existing -> existing.getId().equals(task.getId()));
         }
 
         int desiredPosition = request.newPosition() != null ? request.newPosition() : targetStatusTasks.size();
         desiredPosition = Math.max(0, Math.min(desiredPosition, targetStatusTasks.size()));
         targetStatusTasks.add(desiredPosition, task);
 
-        reorderSequentially(currentStatusTasks, currentStatus);
-        reorderSequentially(targetStatusTasks, targetStatus);
+        int rewritten = reorderSequentially(currentStatusTasks, currentStatus, revision);
+        if (targetStatusTasks != currentStatusTasks) {
+            rewritten += reorderSequentially(targetStatusTasks, targetStatus, revision);
+        }
+        taskMetrics.recordMove(rewritten);
+        // A single rewrite can only be the moved task itself; more means its neighbours shifted.
+        if (rewritten > 1) {
+            writes.repositioned();
+        }
+        writes.written(task, desiredPosition);
 
         kanbanTaskRepository.saveAll(targetStatusTasks);
         if (!currentStatus.equals(targetStatus)) {
             kanbanTaskRepository.saveAll(currentStatusTasks);
         }
 
-        return toResponse(task);
+        return toResponse(task, desiredPosition);
+    }
+
+    private TaskResponse moveTaskSparse(
+        KanbanTask task,
+        UserAccount owner,
+        TaskStatus targetStatus,
+        Integer newPosition,
+        long revision,
+        BoardWrites writes
+    ) {
+        int columnSize = columnSize(owner, targetStatus, revision);
+        if (targetStatus.equals(task.getStatus())) {
+            columnSize--;
+        }
+        int desiredPosition = newPosition != null ? newPosition : columnSize;
+        desiredPosition = Math.max(0, Math.min(desiredPosition, columnSize));
+
+        Integer previous;
+        Integer next;
+        if (desiredPosition == columnSize) {
+            previous = kanbanTaskRepository.findTailPositionsExcluding(owner, targetStatus, task.getId(), PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+            next = null;
+        } else if (desiredPosition == 0) {
+            previous = null;
+            next = kanbanTaskRepository.findPositionsExcluding(owner, targetStatus, task.getId(), PageRequest.of(0, 1))
+                .stream()
+                .findFirst()
+                .orElse(null);
+        } else {
+            previous = rankAt(owner, targetStatus, task.getId(), desiredPosition - 1, revision);
+            next = kanbanTaskRepository.findNextPositionExcluding(owner, targetStatus, task.getId(), previous);
+        }
+
+        Integer rank = rankBetween(previous, next);
+        int rewritten;
+        if (rank == null) {
+            rewritten = rebalanceColumn(owner, targetStatus, task, desiredPosition, revision);
+            writes.repositioned();
+        } else {
+            rewritten = place(task, targetStatus, rank, revision) ? 1 : 0;
+        }
+        taskMetrics.recordMove(rewritten);
+        writes.written(task, desiredPosition);
+        return toResponse(task, desiredPosition);
+    }
+
+    private void validateOperation(int index, TaskBatchOperation operation) {
+        boolean valid = switch (operation.type()) {
+            case CREATE -> operation.task() != null;
+            case UPDATE -> operation.taskId() != null && operation.changes() != null;
+            case MOVE -> operation.taskId() != null && operation.move() != null;
+            case DELETE -> operation.taskId() != null;
+        };
+        if (!valid) {
+            throw new IllegalArgumentException("Operacao " + index + ": campos obrigatorios ausentes para " + operation.type());
+        }
+    }
+
+    private void relocate(
+        Map<TaskStatus, List<KanbanTask>> columns,
+        Map<KanbanTask, TaskStatus> relocated,
+        KanbanTask task,
+        TaskStatus currentStatus,
+        TaskStatus targetStatus,
+        Integer newPosition
+    ) {
+        columns.get(currentStatus).removeIf(existing -> existing == task);
+        List<KanbanTask> target = columns.get(targetStatus);
+        int desiredPosition = newPosition != null ? newPosition : target.size();
+        target.add(Math.max(0, Math.min(desiredPosition, target.size())), task);
+        relocated.put(task, targetStatus);
+    }
+
+    /**
+     * Gives every relocated task in the column a rank between its untouched neighbours, spreading
+     * each run evenly over the free gap. Untouched rows keep their rank; if any run does not fit,
+     * the whole column is rebalanced once instead.
+     */
+    private void assignSparseRanks(List<KanbanTask> column, TaskStatus status, Set<KanbanTask> relocated, long revision) {
+        int[] ranks = new int[column.size()];
+        Integer previous = null;
+        int runStart = 0;
+        for (int i = 0; i <= column.size(); i++) {
+            if (i < column.size() && relocated.contains(column.get(i))) {
+                continue;
+            }
+            Integer next = i < column.size() ? column.get(i).getPosition() : null;
+            if (!fillRun(ranks, runStart, i, previous, next)) {
+                spreadRanks(column, status, revision);
+                return;
+            }
+            if (next != null) {
+                ranks[i] = next;
+            }
+            previous = next;
+            runStart = i + 1;
+        }
+        for (int i = 0; i < column.size(); i++) {
+            place(column.get(i), status, ranks[i], revision);
+        }
+    }
+
+    private boolean fillRun(int[] ranks, int from, int to, Integer previous, Integer next) {
+        if (previous != null && next != null && next <= previous) {
+            return false;
+        }
+        int count = to - from;
+        if (count == 0) {
+            return true;
+        }
+        long step = previous != null && next != null
+            ? ((long) next - previous) / (count + 1)
+            : orderingProperties.getGap();
+        if (step < 1) {
+            return false;
+        }
+        long base = previous != null ? previous : next != null ? next - step * (count + 1) : 0;
+        for (int j = 0; j < count; j++) {
+            long rank = base + step * (j + 1);
+            if (rank <= Integer.MIN_VALUE || rank >= Integer.MAX_VALUE) {
+                return false;
+            }
+            ranks[from + j] = (int) rank;
+        }
+        return true;
+    }
+
+    /**
+     * Rank of the task at dense {@code index} of the column, the moved task left out. The cached
+     * board at the revision before this mutation names that task, so its rank is a primary key
+     * read and the next one a seek on the column index; without it the column is walked with an
+     * offset.
+     */
+    private Integer rankAt(UserAccount owner, TaskStatus status, Long excludedTaskId, int index, long revision) {
+        BoardSnapshot snapshot = boardCache.cachedAt(owner.getId(), revision - 1);
+        Long anchorId = snapshot != null ? snapshot.idAt(status, index, excludedTaskId) : null;
+        if (anchorId != null) {
+            Integer rank = kanbanTaskRepository.findPositionByIdAndOwnerAndStatus(anchorId, owner, status).orElse(null);
+            if (rank != null) {
+                return rank;
+            }
+        }
+        return kanbanTaskRepository.findPositionsExcluding(owner, status, excludedTaskId, PageRequest.of(index, 1))
+            .stream()
+            .findFirst()
+            .orElse(null);
+    }
+
+    /**
+     * Tasks in the column before this mutation. Ordering decisions never use the board counters,
+     * which may drift; the size comes from the cached board at the previous revision when it is
+     * there, otherwise from a count over the column index.
+     */
+    private int columnSize(UserAccount owner, TaskStatus status, long revision) {
+        BoardSnapshot snapshot = boardCache.cachedAt(owner.getId(), revision - 1);
+        return snapshot != null ? snapshot.columnSize(status) : kanbanTaskRepository.countByOwnerAndStatus(owner, status);
+    }
+
+    private Integer tailPosition(UserAccount owner, TaskStatus status) {
+        return kanbanTaskRepository.findTailPositions(owner, status, PageRequest.of(0, 1))
+            .stream()
+            .findFirst()
+            .orElse(null);
+    }
+
+    private int nextTailRank(UserAccount owner, TaskStatus status, long revision, BoardWrites writes) {
+        Integer rank = rankBetween(tailPosition(owner, status), null);
+        if (rank != null) {
+            return rank;
+        }
+        rebalanceColumn(owner, status, null, 0, revision);
+        writes.repositioned();
+        return rankBetween(tailPosition(owner, status), null);
+    }
+
+    /**
+     * Picks a rank strictly between the neighbours, or null when the gap is exhausted and the
+     * column has to be rebalanced.
+     */
+    private Integer rankBetween(Integer previous, Integer next) {
+        long gap = orderingProperties.getGap();
+        long candidate;
+        if (previous == null && next == null) {
+            candidate = gap;
+        } else if (previous == null) {
+            candidate = (long) next - gap;
+        } else if (next == null) {
+            candidate = (long) previous + gap;
+        } else if ((long) next - previous < 2) {
+            return null;
+        } else {
+            candidate = previous + ((long) next - previous) / 2;
+        }
+        if (candidate <= Integer.MIN_VALUE || candidate >= Integer.MAX_VALUE) {
+            return null;
+        }
+        return (int) candidate;
+    }
+
+    private int rebalanceColumn(UserAccount owner, TaskStatus status, KanbanTask inserted, int index, long revision) {
+        List<KanbanTask> tasks = new ArrayList<>(
+            kanbanTaskRepository.findAllByOwnerAndStatusOrderByPosition(owner, status)
+        );
+        if (inserted != null) {
+            tasks.removeIf(existing -> existing.getId().equals(inserted.getId()));
+            tasks.add(Math.min(index, tasks.size()), inserted);
+        }
+        int rewritten = spreadRanks(tasks, status, revision);
+        kanbanTaskRepository.saveAll(tasks);
+        return rewritten;
+    }
+
+    private int spreadRanks(List<KanbanTask> tasks, TaskStatus status, long revision) {
+        long gap = Math.min(orderingProperties.getGap(), Integer.MAX_VALUE / (tasks.size() + 2L));
+        int rewritten = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            if (place(tasks.get(i), status, (int) ((i + 1) * gap), revision)) {
+                rewritten++;
+            }
+        }
+        return rewritten;
     }
 
-    private void reorderStatusPositions(UserAccount owner, TaskStatus status, Long excludedTaskId) {
+    private int reorderStatusPositions(UserAccount owner, TaskStatus status, Long excludedTaskId, long revision) {
         List<KanbanTask> tasks = new ArrayList<>(
             kanbanTaskRepository.findAllByOwnerAndStatusOrderByPosition(owner, status)
         );
         tasks.removeIf(task -> task.getId().equals(excludedTaskId));
-        reorderSequentially(tasks, status);
+        int rewritten = reorderSequentially(tasks, status, revision);
         kanbanTaskRepository.saveAll(tasks);
+        return rewritten;
     }
 
-    private void reorderSequentially(List<KanbanTask> tasks, TaskStatus status) {
+    private int reorderSequentially(List<KanbanTask> tasks, TaskStatus status, long revision) {
+        int rewritten = 0;
         for (int i = 0; i < tasks.size(); i++) {
-            KanbanTask task = tasks.get(i);
-            task.setStatus(status);
-            task.setPosition(i);
+            if (place(tasks.get(i), status, i, revision)) {
+                rewritten++;
+            }
+        }
+        return rewritten;
+    }
+
+    /**
+     * Moves a task to the given slot and stamps it with the board revision, leaving rows that are
+     * already in place untouched so they are neither rewritten nor reported as changed. Returns
+     * whether the row was changed.
+     */
+    private boolean place(KanbanTask task, TaskStatus status, int position, long revision) {
+        if (task.getStatus() == status && Objects.equals(task.getPosition(), position)) {
+            return false;
+        }
+        task.setStatus(status);
+        task.setPosition(position);
+        task.setRevision(revision);
+        return true;
+    }
+
+    private TaskResponse publish(UserAccount owner, TaskChangeEvent.Type type, TaskResponse response, long revision) {
+        eventPublisher.publishEvent(new TaskChangeEvent(
+            owner.getId(), type, response.id(), response.status(), response.position(), revision
+        ));
+        return response;
+    }
+
+    private KanbanTask newTask(UserAccount owner, TaskRequest request) {
+        KanbanTask task = new KanbanTask();
+        task.setOwner(owner);
+        task.setTitle(request.title().trim());
+        task.setDescription(normalizeDescription(request.description()));
+        task.setPriority(request.priority() != null ? request.priority() : TaskPriority.MEDIUM);
+        task.setStatus(TaskStatus.TODO);
+        task.setDueDate(request.dueDate());
+        return task;
+    }
+
+    private void applyChanges(KanbanTask task, TaskUpdateRequest request) {
+        if (request.title() != null) {
+            String trimmedTitle = request.title().trim();
+            if (trimmedTitle.isEmpty()) {
+                throw new IllegalArgumentException("Titulo nao pode ficar vazio");
+            }
+            task.setTitle(trimmedTitle);
+        }
+        if (request.description() != null) {
+            task.setDescription(normalizeDescription(request.description()));
+        }
+        if (Boolean.TRUE.equals(request.removeDueDate())) {
+            task.setDueDate(null);
+        } else if (request.dueDate() != null) {
+            task.setDueDate(request.dueDate());
+        }
+        if (request.priority() != null) {
+            task.setPriority(request.priority());
         }
     }
 
@@ -163,14 +893,21 @@ public class TaskService {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
-    private TaskResponse toResponse(KanbanTask task) {
+    private int densePosition(UserAccount owner, KanbanTask task) {
+        if (!orderingProperties.isSparse()) {
+            return task.getPosition();
+        }
+        return kanbanTaskRepository.countByOwnerAndStatusAndPositionLessThan(owner, task.getStatus(), task.getPosition());
+    }
+
+    private TaskResponse toResponse(KanbanTask task, int position) {
         return new TaskResponse(
             task.getId(),
             task.getTitle(),
             task.getDescription(),
             task.getStatus(),
             task.getPriority(),
-            task.getPosition(),
+            position,
             task.getDueDate(),
             task.getCreatedAt(),
             task.getUpdatedAt()
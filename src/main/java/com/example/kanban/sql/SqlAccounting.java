@@ -0,0 +1,134 @@
+package com.example.kanban.sql;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread-bound statement accounting. Scopes nest (request, then service call), and each statement
+ * Hibernate prepares is counted in every scope open on the current thread. Nothing is tracked
+ * while no scope is open.
+ *
+ * <p>Tests can bound what an operation issues:
+ * <pre>{@code
+ * try (SqlAccounting.Scope scope = SqlAccounting.open("move")) {
+ *     taskService.moveTask(taskId, owner, request);
+ *     assertThat(scope.statementCount()).isLessThanOrEqualTo(8);
+ * }
+ * }</pre>
+ */
+public final class SqlAccounting {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private SqlAccounting() {
+    }
+
+    public static Scope open(String name) {
+        Scope scope = new Scope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void statementPrepared(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        for (Scope current = scope; current != null; current = current.parent) {
+            current.statements++;
+            if (current.parent == null) {
+                current.shapes.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    static void executed(long nanos) {
+        for (Scope current = CURRENT.get(); current != null; current = current.parent) {
+            current.executionNanos += nanos;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final Scope parent;
+        private final Map<String, Integer> shapes;
+        private final List<String> children;
+        private int statements;
+        private long executionNanos;
+        private boolean closed;
+
+        private Scope(String name, Scope parent) {
+            this.name = name;
+            this.parent = parent;
+            this.shapes = parent == null ? new HashMap<>() : Map.of();
+            this.children = parent == null ? new ArrayList<>() : List.of();
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public int statementCount() {
+            return statements;
+        }
+
+        /**
+         * Time spent inside JDBC execute calls; result set reads are not included.
+         */
+        public Duration executionTime() {
+            return Duration.ofNanos(executionNanos);
+        }
+
+        /**
+         * Statements prepared at least {@code threshold} times, most repeated first. Only the
+         * outermost scope keeps statement text; nested scopes return an empty map.
+         */
+        public Map<String, Integer> repeatedStatements(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+            return repeated;
+        }
+
+        /**
+         * Statement counts of the nested scopes that closed inside this one, in order, as
+         * {@code name=count}.
+         */
+        public List<String> breakdown() {
+            return children;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+            Scope root = parent;
+            while (root != null && root.parent != null) {
+                root = root.parent;
+            }
+            if (root != null) {
+                root.children.add(name + "=" + statements);
+            }
+        }
+    }
+}
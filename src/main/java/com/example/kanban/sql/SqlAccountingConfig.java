@@ -0,0 +1,67 @@
+package com.example.kanban.sql;
+
+import com.example.kanban.config.SqlAccountingProperties;
+import com.example.kanban.service.TaskService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Wires request-scoped SQL accounting: the Hibernate hooks that count and time statements, the
+ * servlet filter that opens a scope per request, and an advisor that opens one per
+ * {@link TaskService} call. Replaces {@code show-sql}, which logs every statement but says nothing
+ * about what a request costs in total.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "kanban.sql", name = "enabled", matchIfMissing = true)
+public class SqlAccountingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlAccountingHibernateProperties() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingListener.class.getName());
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlAccountingFilter> sqlAccountingFilter(
+        SqlAccountingProperties properties,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        FilterRegistrationBean<SqlAccountingFilter> registration = new FilterRegistrationBean<>(
+            new SqlAccountingFilter(properties, metrics(meterRegistry))
+        );
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor taskServiceSqlAccountingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+            new ComposablePointcut(new RootClassFilter(TaskService.class)),
+            new SqlAccountingInterceptor(metrics(meterRegistry))
+        );
+        // Outside the transaction interceptor, so flush and commit statements are attributed too.
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    private static SqlAccountingMetrics metrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SqlAccountingMetrics(SingletonSupplier.of(meterRegistry::getObject));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.kanban.sql;
+
+import com.example.kanban.config.SqlAccountingProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the statements of each HTTP request, authentication included. Requests over
+ * {@code kanban.sql.statement-budget}, or repeating one statement {@code repeat-threshold} times,
+ * are always counted in {@code kanban.sql.budget.exceeded} and logged for a sampled share.
+ */
+@Slf4j
+class SqlAccountingFilter extends OncePerRequestFilter {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 160;
+
+    private final SqlAccountingProperties properties;
+    private final SqlAccountingMetrics metrics;
+
+    SqlAccountingFilter(SqlAccountingProperties properties, SqlAccountingMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        SqlAccounting.Scope scope = SqlAccounting.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            if (scope.statementCount() > 0) {
+                report(route(request), scope);
+            }
+        }
+    }
+
+    private void report(String route, SqlAccounting.Scope scope) {
+        metrics.record(route, scope);
+        boolean overBudget = scope.statementCount() > properties.getStatementBudget();
+        Map<String, Integer> repeated = scope.repeatedStatements(properties.getRepeatThreshold());
+        if (!overBudget && repeated.isEmpty()) {
+            return;
+        }
+        metrics.recordOffence(route, overBudget ? "budget" : "repeated");
+        if (ThreadLocalRandom.current().nextDouble() >= properties.getLogSampleRate()) {
+            return;
+        }
+        log.warn("{} issued {} statements in {} ms (budget {}); calls: {}; repeated: {}",
+            route,
+            scope.statementCount(),
+            scope.executionTime().toMillis(),
+            properties.getStatementBudget(),
+            scope.breakdown(),
+            repeated.entrySet().stream()
+                .map(entry -> entry.getValue() + "x " + abbreviate(entry.getKey()))
+                .collect(Collectors.joining(" | ")));
+    }
+
+    private String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+    }
+
+    private String abbreviate(String sql) {
+        String singleLine = sql.replaceAll("\\s+", " ").trim();
+        return singleLine.length() <= MAX_LOGGED_SQL_LENGTH ? singleLine : singleLine.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
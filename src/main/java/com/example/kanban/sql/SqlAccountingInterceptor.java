@@ -0,0 +1,29 @@
+package com.example.kanban.sql;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Opens a scope around each advised service call so statements are also broken down per method,
+ * including the ones issued when its transaction flushes and commits.
+ */
+class SqlAccountingInterceptor implements MethodInterceptor {
+
+    private final SqlAccountingMetrics metrics;
+
+    SqlAccountingInterceptor(SqlAccountingMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String name = invocation.getMethod().getDeclaringClass().getSimpleName() + "." + invocation.getMethod().getName();
+        SqlAccounting.Scope scope = SqlAccounting.open(name);
+        try {
+            return invocation.proceed();
+        } finally {
+            scope.close();
+            metrics.record(name, scope);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.kanban.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+
+/**
+ * Publishes a closed scope as {@code kanban.sql.statements} and {@code kanban.sql.execution},
+ * tagged with the scope name (a route template or a service method, never a raw URI).
+ */
+class SqlAccountingMetrics {
+
+    private static final double[] STATEMENT_BUCKETS = {1, 2, 5, 10, 20, 50, 100};
+
+    private final Supplier<MeterRegistry> meterRegistry;
+
+    SqlAccountingMetrics(Supplier<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void record(String scopeName, SqlAccounting.Scope scope) {
+        MeterRegistry registry = meterRegistry.get();
+        DistributionSummary.builder("kanban.sql.statements")
+            .description("SQL statements prepared per request or service call")
+            .baseUnit("statements")
+            .tag("scope", scopeName)
+            .serviceLevelObjectives(STATEMENT_BUCKETS)
+            .register(registry)
+            .record(scope.statementCount());
+        Timer.builder("kanban.sql.execution")
+            .description("Time spent executing SQL per request or service call")
+            .tag("scope", scopeName)
+            .register(registry)
+            .record(scope.executionTime());
+    }
+
+    void recordOffence(String scopeName, String reason) {
+        meterRegistry.get().counter("kanban.sql.budget.exceeded", "scope", scopeName, "reason", reason).increment();
+    }
+}
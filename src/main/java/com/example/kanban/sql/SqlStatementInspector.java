@@ -0,0 +1,16 @@
+package com.example.kanban.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts every statement Hibernate prepares against the open {@link SqlAccounting} scopes and
+ * passes the SQL through unchanged. A batched write is prepared once, so it counts once.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlAccounting.statementPrepared(sql);
+        return sql;
+    }
+}
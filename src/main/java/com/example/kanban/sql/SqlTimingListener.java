@@ -0,0 +1,39 @@
+package com.example.kanban.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Per-session listener (registered through {@code hibernate.session.events.auto}) that adds the
+ * time spent in JDBC execute and batch calls to the open {@link SqlAccounting} scopes.
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = SqlAccounting.isActive() ? System.nanoTime() : 0;
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        if (executeStart != 0) {
+            SqlAccounting.executed(System.nanoTime() - executeStart);
+            executeStart = 0;
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = SqlAccounting.isActive() ? System.nanoTime() : 0;
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        if (batchStart != 0) {
+            SqlAccounting.executed(System.nanoTime() - batchStart);
+            batchStart = 0;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.kanban.threads;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * Shrinks an H2 Hikari pool to the number of virtual-thread carriers. Every H2 JDBC call runs
+ * inside {@code synchronized} on the session, pinning its carrier, and in-memory statements are
+ * CPU-bound, so connections beyond the carrier count only add pinned waiters. With request
+ * concurrency no longer bounded by Tomcat's pool, the Hikari queue becomes the admission point and
+ * requests that time out there are answered with 503.
+ */
+@Slf4j
+class CarrierSizedPool implements BeanPostProcessor {
+
+    private final int carriers;
+
+    CarrierSizedPool(int carriers) {
+        this.carriers = carriers;
+    }
+
+    static int carrierParallelism() {
+        return Integer.getInteger("jdk.virtualThreadScheduler.parallelism", Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource
+            && dataSource.getJdbcUrl() != null
+            && dataSource.getJdbcUrl().startsWith("jdbc:h2:")
+            && dataSource.getMaximumPoolSize() > carriers) {
+            log.info("Capping H2 pool '{}' at {} connections to match virtual-thread carriers (was {})",
+                beanName, carriers, dataSource.getMaximumPoolSize());
+            dataSource.setMaximumPoolSize(carriers);
+            if (dataSource.getMinimumIdle() > carriers) {
+                dataSource.setMinimumIdle(carriers);
+            }
+        }
+        return bean;
+    }
+}
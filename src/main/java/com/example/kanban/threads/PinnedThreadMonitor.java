@@ -0,0 +1,81 @@
+package com.example.kanban.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Streams the JFR {@code jdk.VirtualThreadPinned} event in process: a virtual thread that blocked
+ * while pinned to its carrier (inside {@code synchronized} or a native frame) for longer than the
+ * threshold is timed as {@code kanban.threads.virtual.pinned{source}}, where {@code source} is the
+ * first class on the stack outside the JDK, and its stack is logged at debug.
+ */
+@Slf4j
+public class PinnedThreadMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final MeterRegistry meterRegistry;
+    private volatile RecordingStream stream;
+
+    PinnedThreadMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        Timer.builder("kanban.threads.virtual.pinned")
+            .description("Time virtual threads spent blocked while pinned to their carrier")
+            .tag("source", source(frames))
+            .register(meterRegistry)
+            .record(event.getDuration());
+        if (log.isDebugEnabled()) {
+            StringBuilder stack = new StringBuilder();
+            frames.forEach(frame -> stack.append("\n\tat ")
+                .append(frame.getMethod().getType().getName()).append('.').append(frame.getMethod().getName())
+                .append(':').append(frame.getLineNumber()));
+            log.debug("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), stack);
+        }
+    }
+
+    private static String source(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type;
+            }
+        }
+        return "jdk";
+    }
+}
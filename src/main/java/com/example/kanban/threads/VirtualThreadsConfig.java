@@ -0,0 +1,31 @@
+package com.example.kanban.threads;
+
+import com.example.kanban.config.VirtualThreadProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Extras for the virtual-thread execution mode. {@code spring.threads.virtual.enabled} itself
+ * moves Tomcat request handling, the {@code @Async} executor and the {@code @Scheduled} scheduler
+ * onto virtual threads; the export and event executors already run on them. This adds a monitor
+ * for threads pinned to their carrier and keeps the H2 pool within the carrier count.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public PinnedThreadMonitor pinnedThreadMonitor(VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+        return new PinnedThreadMonitor(properties.getPinnedThreshold(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "kanban.threads.virtual", name = "cap-h2-pool", matchIfMissing = true)
+    public static CarrierSizedPool carrierSizedPool() {
+        return new CarrierSizedPool(CarrierSizedPool.carrierParallelism());
+    }
+}
@@ -1,19 +1,42 @@
 package com.example.kanban.web;
 
+import com.example.kanban.dto.BoardStatisticsCheckResponse;
+import com.example.kanban.dto.BoardStatisticsResponse;
+import com.example.kanban.dto.ExportJobResponse;
+import com.example.kanban.dto.TaskBatchRequest;
+import com.example.kanban.dto.TaskBatchResponse;
+import com.example.kanban.dto.TaskChangesResponse;
+import com.example.kanban.dto.TaskImportResponse;
 import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskPageResponse;
 import com.example.kanban.dto.TaskRequest;
 import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.dto.TaskSearchResponse;
 import com.example.kanban.dto.TaskUpdateRequest;
 import com.example.kanban.model.TaskStatus;
 import com.example.kanban.model.UserAccount;
+import com.example.kanban.service.BoardEventService;
+import com.example.kanban.service.BoardStatisticsService;
+import com.example.kanban.service.BoardVersionService;
+import com.example.kanban.service.BoardView;
+import com.example.kanban.service.PdfExportJobService;
 import com.example.kanban.service.PdfExportService;
+import com.example.kanban.service.TaskExportService;
+import com.example.kanban.service.TaskImportService;
 import com.example.kanban.service.TaskService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -28,7 +51,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -37,43 +63,167 @@ public class TaskController {
 
     private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmm")
         .withZone(ZoneId.systemDefault());
+    private static final CacheControl BOARD_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
 
     private final TaskService taskService;
     private final PdfExportService pdfExportService;
+    private final PdfExportJobService pdfExportJobService;
+    private final BoardVersionService boardVersionService;
+    private final BoardEventService boardEventService;
+    private final BoardStatisticsService boardStatisticsService;
+    private final TaskImportService taskImportService;
+    private final TaskExportService taskExportService;
 
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> list(@AuthenticationPrincipal UserAccount user) {
-        return ResponseEntity.ok(taskService.listTasks(user));
+    public ResponseEntity<List<TaskResponse>> list(@AuthenticationPrincipal UserAccount user, WebRequest webRequest) {
+        BoardView board = taskService.board(user);
+        String etag = boardVersionService.etag(user, board.revision());
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(BOARD_CACHE_CONTROL)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(board.tasks());
+    }
+
+    @GetMapping(params = "limit")
+    public ResponseEntity<TaskPageResponse> listPage(
+        @AuthenticationPrincipal UserAccount user,
+        @RequestParam int limit,
+        @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.listTasksPage(user, null, cursor, limit));
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> changes(
+        @AuthenticationPrincipal UserAccount user,
+        @RequestParam(required = false) String since
+    ) {
+        return ResponseEntity.ok(taskService.listChanges(user, since));
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<BoardStatisticsResponse> statistics(@AuthenticationPrincipal UserAccount user) {
+        return ResponseEntity.ok(boardStatisticsService.statistics(user));
+    }
+
+    @GetMapping("/statistics/check")
+    public ResponseEntity<BoardStatisticsCheckResponse> checkStatistics(@AuthenticationPrincipal UserAccount user) {
+        return ResponseEntity.ok(boardStatisticsService.check(user));
+    }
+
+    @PostMapping("/statistics/rebuild")
+    public ResponseEntity<BoardStatisticsResponse> rebuildStatistics(@AuthenticationPrincipal UserAccount user) {
+        return ResponseEntity.ok(boardStatisticsService.rebuild(user));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> search(
+        @AuthenticationPrincipal UserAccount user,
+        @RequestParam String q,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(taskService.searchTasks(user, q, page, size));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@AuthenticationPrincipal UserAccount user) {
+        return boardEventService.subscribe(user);
     }
 
     @GetMapping("/status/{status}")
     public ResponseEntity<List<TaskResponse>> listByStatus(
         @AuthenticationPrincipal UserAccount user,
-        @PathVariable String status
+        @PathVariable String status,
+        WebRequest webRequest
     ) {
-        TaskStatus parsedStatus;
-        try {
-            parsedStatus = TaskStatus.valueOf(status.toUpperCase());
-        } catch (IllegalArgumentException ex) {
-            throw new IllegalArgumentException("Status invalido: " + status);
+        TaskStatus parsedStatus = parseStatus(status);
+        BoardView board = taskService.board(user);
+        String etag = boardVersionService.etag(user, board.revision());
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag);
         }
-        return ResponseEntity.ok(taskService.listTasksByStatus(user, parsedStatus));
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .cacheControl(BOARD_CACHE_CONTROL)
+            .varyBy(HttpHeaders.ACCEPT)
+            .body(board.column(parsedStatus));
+    }
+
+    @GetMapping(value = "/status/{status}", params = "limit")
+    public ResponseEntity<TaskPageResponse> listPageByStatus(
+        @AuthenticationPrincipal UserAccount user,
+        @PathVariable String status,
+        @RequestParam int limit,
+        @RequestParam(required = false) String cursor
+    ) {
+        return ResponseEntity.ok(taskService.listTasksPage(user, parseStatus(status), cursor, limit));
     }
 
     @GetMapping("/export/pdf")
-    public ResponseEntity<byte[]> export(
-        @AuthenticationPrincipal UserAccount user
+    public void export(
+        @AuthenticationPrincipal UserAccount user,
+        WebRequest webRequest,
+        HttpServletResponse response
+    ) throws IOException {
+        pdfExportService.exportTasks(user, revision ->
+            startExport(user, revision, webRequest, response, MediaType.APPLICATION_PDF_VALUE, "pdf"));
+    }
+
+    @GetMapping("/export/ndjson")
+    public void exportNdjson(
+        @AuthenticationPrincipal UserAccount user,
+        WebRequest webRequest,
+        HttpServletResponse response
+    ) throws IOException {
+        taskExportService.writeNdjson(user, revision ->
+            startExport(user, revision, webRequest, response, MediaType.APPLICATION_NDJSON_VALUE, "ndjson"));
+    }
+
+    @GetMapping("/export/csv")
+    public void exportCsv(
+        @AuthenticationPrincipal UserAccount user,
+        WebRequest webRequest,
+        HttpServletResponse response
+    ) throws IOException {
+        taskExportService.writeCsv(user, revision ->
+            startExport(user, revision, webRequest, response, "text/csv;charset=UTF-8", "csv"));
+    }
+
+    @PostMapping("/export/pdf/jobs")
+    public ResponseEntity<ExportJobResponse> submitExport(@AuthenticationPrincipal UserAccount user) {
+        ExportJobResponse job = pdfExportJobService.submit(user);
+        return ResponseEntity.accepted()
+            .header(HttpHeaders.LOCATION, "/api/tasks/export/pdf/jobs/" + job.id())
+            .body(job);
+    }
+
+    @GetMapping("/export/pdf/jobs/{jobId}")
+    public ResponseEntity<ExportJobResponse> exportStatus(
+        @AuthenticationPrincipal UserAccount user,
+        @PathVariable String jobId
     ) {
-        List<TaskResponse> tasks = taskService.listTasks(user);
-        byte[] pdf = pdfExportService.exportTasks(user, tasks);
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_PDF);
-        headers.setContentDisposition(ContentDisposition.attachment()
-            .filename("kanban-tarefas-" + FILE_DATE_FORMAT.format(Instant.now()) + ".pdf")
-            .build());
-        return ResponseEntity.ok()
-            .headers(headers)
-            .body(pdf);
+        return ResponseEntity.ok(pdfExportJobService.getJob(user, jobId));
+    }
+
+    @GetMapping("/export/pdf/jobs/{jobId}/download")
+    public ResponseEntity<Resource> downloadExport(
+        @AuthenticationPrincipal UserAccount user,
+        @PathVariable String jobId
+    ) throws IOException {
+        return pdfExportJobService.openResult(user, jobId)
+            .<ResponseEntity<Resource>>map(result -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("kanban-tarefas-" + FILE_DATE_FORMAT.format(Instant.now()) + ".pdf")
+                    .build()
+                    .toString())
+                .body(new InputStreamResource(result)))
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
     }
 
     @PostMapping
@@ -84,6 +234,30 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(user, request));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> batch(
+        @AuthenticationPrincipal UserAccount user,
+        @Valid @RequestBody TaskBatchRequest request
+    ) {
+        return ResponseEntity.ok(taskService.applyBatch(user, request));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TaskImportResponse> importNdjson(
+        @AuthenticationPrincipal UserAccount user,
+        InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(taskImportService.importTasks(user, body, TaskImportService.Format.NDJSON));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<TaskImportResponse> importCsv(
+        @AuthenticationPrincipal UserAccount user,
+        InputStream body
+    ) throws IOException {
+        return ResponseEntity.ok(taskImportService.importTasks(user, body, TaskImportService.Format.CSV));
+    }
+
     @PutMapping("/{taskId}")
     public ResponseEntity<TaskResponse> update(
         @AuthenticationPrincipal UserAccount user,
@@ -110,4 +284,49 @@ public class TaskController {
         taskService.deleteTask(taskId, user);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Sets the headers of a streamed export; returns {@code false} when the client's copy is still
+     * current and nothing should be written.
+     */
+    /**
+     * Validates an export against the revision it is read at and, unless the client's copy is
+     * current, sets the download headers and returns the response body stream.
+     */
+    private OutputStream startExport(
+        UserAccount user,
+        long revision,
+        WebRequest webRequest,
+        HttpServletResponse response,
+        String contentType,
+        String extension
+    ) throws IOException {
+        String etag = boardVersionService.etag(user, revision, extension);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, BOARD_CACHE_CONTROL.getHeaderValue());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename("kanban-tarefas-" + FILE_DATE_FORMAT.format(Instant.now()) + "." + extension)
+            .build()
+            .toString());
+        return response.getOutputStream();
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(BOARD_CACHE_CONTROL)
+            .varyBy(HttpHeaders.ACCEPT)
+            .build();
+    }
+
+    private TaskStatus parseStatus(String status) {
+        try {
+            return TaskStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Status invalido: " + status);
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.kanban;
+
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import java.util.UUID;
+
+/**
+ * Saves throwaway accounts with unique names, so tests sharing the in-memory database never see
+ * each other's boards.
+ */
+public final class TestAccounts {
+
+    private TestAccounts() {
+    }
+
+    public static UserAccount create(UserAccountRepository repository, String prefix) {
+        String username = prefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+        UserAccount user = new UserAccount();
+        user.setUsername(username);
+        user.setPassword("{noop}" + prefix);
+        user.setFullName("Test " + prefix);
+        user.setEmail(username + "@test.local");
+        return repository.save(user);
+    }
+}
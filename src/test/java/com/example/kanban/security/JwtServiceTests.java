@@ -0,0 +1,58 @@
+package com.example.kanban.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.kanban.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MissingClaimException;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Date;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+class JwtServiceTests {
+
+    private static final String SECRET = "dGVzdC1zZWNyZXQtd2l0aC1hdC1sZWFzdC10aGlydHktdHdvLWJ5dGVzIQ==";
+
+    private final UserDetails user = User.withUsername("ana").password("unused").build();
+
+    @Test
+    void cachedClaimsStopValidatingOnceTheTokenExpires() throws InterruptedException {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(2_000);
+        JwtService jwtService = new JwtService(properties);
+        String token = jwtService.generateToken(user);
+
+        Claims claims = jwtService.parseClaims(token);
+        assertThat(jwtService.parseClaims(token)).isSameAs(claims);
+        assertThat(jwtService.isTokenValid(token, user)).isTrue();
+
+        Thread.sleep(claims.getExpiration().getTime() - System.currentTimeMillis() + 50);
+
+        assertThat(jwtService.isTokenValid(claims, user)).isFalse();
+        assertThatThrownBy(() -> jwtService.parseClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void tokensWithoutExpirationAreRejected() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        JwtService jwtService = new JwtService(properties);
+        String token = Jwts.builder()
+            .setSubject(user.getUsername())
+            .setIssuedAt(new Date())
+            .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+            .compact();
+
+        assertThatThrownBy(() -> jwtService.parseClaims(token)).isInstanceOf(MissingClaimException.class);
+        assertThatThrownBy(() -> jwtService.parseClaims(token)).isInstanceOf(MissingClaimException.class);
+        assertThatThrownBy(() -> jwtService.isTokenValid(token, user)).isInstanceOf(MissingClaimException.class);
+        assertThat(jwtService.isTokenValid(Jwts.claims().setSubject(user.getUsername()), user)).isFalse();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.kanban.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.config.PasswordHashingProperties;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.convention.TestBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * One hashing thread and no queue: while a login holds the thread, the next one is refused.
+ * The hashing delegate parks on a latch so the thread stays busy for as long as the test needs.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PasswordQueueTests {
+
+    private static final String PASSWORD = "correct-horse";
+    private static final CountDownLatch HASHING = new CountDownLatch(1);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @TestBean
+    private PasswordEncoder passwordEncoder;
+
+    static PasswordEncoder passwordEncoder() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setHashThreads(1);
+        properties.setMaxQueued(0);
+        return new OffloadingPasswordEncoder(new ParkingEncoder(), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void fullHashQueueAnswersServiceUnavailable() throws Exception {
+        UserAccount account = TestAccounts.create(userAccountRepository, "queue");
+        account.setPassword(new BCryptPasswordEncoder(4).encode(PASSWORD));
+        userAccountRepository.save(account);
+
+        CompletableFuture<MvcResult> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return mockMvc.perform(login(account)).andReturn();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        assertThat(HASHING.await(10, TimeUnit.SECONDS)).isTrue();
+
+        mockMvc.perform(login(account))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"))
+            .andExpect(jsonPath("$.error").value("service_unavailable"));
+
+        RELEASE.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS).getResponse().getStatus()).isEqualTo(200);
+    }
+
+    private static MockHttpServletRequestBuilder login(UserAccount account) {
+        return post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"" + account.getUsername() + "\",\"password\":\"" + PASSWORD + "\"}");
+    }
+
+    private static final class ParkingEncoder implements PasswordEncoder {
+
+        private final PasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return bcrypt.encode(rawPassword);
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            HASHING.countDown();
+            try {
+                RELEASE.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return bcrypt.matches(rawPassword, encodedPassword);
+        }
+    }
+}
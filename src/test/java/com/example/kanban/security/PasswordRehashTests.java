@@ -0,0 +1,46 @@
+package com.example.kanban.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "kanban.security.password.strength=6")
+@AutoConfigureMockMvc
+class PasswordRehashTests {
+
+    private static final String PASSWORD = "correct-horse";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Test
+    void loginRewritesAHashWeakerThanTheConfiguredStrength() throws Exception {
+        UserAccount account = TestAccounts.create(userAccountRepository, "rehash");
+        String weakHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        account.setPassword(weakHash);
+        userAccountRepository.save(account);
+
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"username\":\"" + account.getUsername() + "\",\"password\":\"" + PASSWORD + "\"}"))
+            .andExpect(status().isOk());
+
+        String stored = userAccountRepository.findById(account.getId()).orElseThrow().getPassword();
+        assertThat(stored).isNotEqualTo(weakHash).startsWith("$2a$06$");
+        assertThat(new BCryptPasswordEncoder().matches(PASSWORD, stored)).isTrue();
+    }
+}
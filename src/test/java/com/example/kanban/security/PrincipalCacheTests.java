@@ -0,0 +1,74 @@
+package com.example.kanban.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PrincipalCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Test
+    void registeringEvictsAStalePrincipalWithTheSameName() throws Exception {
+        String username = "cache-" + UUID.randomUUID().toString().substring(0, 8);
+        principalCache.putUserInCache(User.withUsername(username).password("{noop}stale-password").build());
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"username":"%s","password":"fresh-password","fullName":"Cache Test","email":"%s@test.local"}
+                    """.formatted(username, username)))
+            .andExpect(status().isCreated());
+
+        assertThat(principalCache.getUserFromCache(username)).isNull();
+        mockMvc.perform(login(username, "fresh-password")).andExpect(status().isOk());
+    }
+
+    @Test
+    void changingThePasswordRejectsTheOldOne() throws Exception {
+        UserAccount account = TestAccounts.create(userAccountRepository, "cache");
+        account.setPassword(passwordEncoder.encode("old-password"));
+        userAccountRepository.save(account);
+        mockMvc.perform(login(account.getUsername(), "old-password")).andExpect(status().isOk());
+        assertThat(principalCache.getUserFromCache(account.getUsername())).isNotNull();
+
+        account.setPassword(passwordEncoder.encode("new-password"));
+        userAccountRepository.save(account);
+
+        assertThat(principalCache.getUserFromCache(account.getUsername())).isNull();
+        mockMvc.perform(login(account.getUsername(), "old-password")).andExpect(status().isUnauthorized());
+        mockMvc.perform(login(account.getUsername(), "new-password")).andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder login(String username, String password) {
+        return post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}");
+    }
+}
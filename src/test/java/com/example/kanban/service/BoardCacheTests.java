@@ -0,0 +1,64 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.sql.SqlAccounting;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class BoardCacheTests {
+
+    private static final int BOARD_SIZE = 8;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount owner;
+    private List<TaskResponse> tasks;
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "cache");
+        tasks = new ArrayList<>();
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            tasks.add(taskService.createTask(owner, new TaskRequest("Tarefa " + i, null, null, null)));
+        }
+    }
+
+    @Test
+    void cachedBoardFollowsWrites() {
+        taskService.listTasks(owner);
+        TaskResponse card = tasks.get(BOARD_SIZE / 2);
+        TaskResponse moved = taskService.moveTask(card.id(), owner, new TaskMoveRequest(TaskStatus.IN_PROGRESS, 0));
+        taskService.deleteTask(tasks.get(0).id(), owner);
+
+        try (SqlAccounting.Scope scope = SqlAccounting.open("cached")) {
+            List<TaskResponse> board = taskService.listTasks(owner);
+            assertThat(scope.statementCount()).isZero();
+            assertThat(board).hasSize(BOARD_SIZE - 1);
+            assertThat(taskService.listTasksByStatus(owner, TaskStatus.IN_PROGRESS))
+                .extracting(TaskResponse::id, TaskResponse::position)
+                .containsExactly(tuple(moved.id(), 0));
+            assertThat(taskService.listTasksByStatus(owner, TaskStatus.TODO))
+                .extracting(TaskResponse::position)
+                .containsExactlyElementsOf(IntStream.range(0, BOARD_SIZE - 2).boxed().toList());
+        }
+    }
+}
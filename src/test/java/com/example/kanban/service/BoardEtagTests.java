@@ -0,0 +1,93 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.security.JwtService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Holds a committed mutation before it reaches {@link BoardCache}, the window in which the version
+ * row is already ahead of the cached board.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class BoardEtagTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @MockitoSpyBean
+    private BoardCache boardCache;
+
+    @Test
+    void etagDescribesTheBoardServedWhileTheCacheCatchesUp() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "etag");
+        taskService.createTask(owner, new TaskRequest("Primeira", null, null, null));
+        String before = board(owner).andExpect(jsonPath("$.length()").value(1)).andReturn()
+            .getResponse().getHeader(HttpHeaders.ETAG);
+
+        CountDownLatch applying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            applying.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(boardCache).apply(eq(owner.getId()), any());
+        CompletableFuture<Void> mutation = CompletableFuture.runAsync(() ->
+            taskService.createTask(owner, new TaskRequest("Segunda", null, null, null))
+        );
+        assertThat(applying.await(10, TimeUnit.SECONDS)).isTrue();
+
+        MvcResult during = board(owner).andExpect(jsonPath("$.length()").value(1)).andReturn();
+        assertThat(during.getResponse().getHeader(HttpHeaders.ETAG)).isEqualTo(before);
+
+        release.countDown();
+        mutation.get(10, TimeUnit.SECONDS);
+        String after = board(owner, before).andExpect(jsonPath("$.length()").value(2)).andReturn()
+            .getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(after).isNotEqualTo(before);
+    }
+
+    private ResultActions board(UserAccount owner) throws Exception {
+        return mockMvc.perform(request(owner)).andExpect(status().isOk());
+    }
+
+    private ResultActions board(UserAccount owner, String ifNoneMatch) throws Exception {
+        return mockMvc.perform(request(owner).header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch)).andExpect(status().isOk());
+    }
+
+    private MockHttpServletRequestBuilder request(UserAccount owner) {
+        return get("/api/tasks").header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(owner));
+    }
+}
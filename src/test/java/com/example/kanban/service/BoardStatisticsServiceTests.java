@@ -0,0 +1,62 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.BoardStatisticsResponse;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.sql.SqlAccounting;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class BoardStatisticsServiceTests {
+
+    private static final int BOARD_SIZE = 6;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardStatisticsService boardStatisticsService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount owner;
+    private List<TaskResponse> tasks;
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "stats");
+        tasks = new ArrayList<>();
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            tasks.add(taskService.createTask(owner, new TaskRequest("Tarefa " + i, null, null, null)));
+        }
+    }
+
+    @Test
+    void statisticsFollowWritesAndReadOneRow() {
+        taskService.moveTask(tasks.get(3).id(), owner, new TaskMoveRequest(TaskStatus.DONE, 0));
+        taskService.deleteTask(tasks.get(4).id(), owner);
+
+        try (SqlAccounting.Scope scope = SqlAccounting.open("statistics")) {
+            BoardStatisticsResponse statistics = boardStatisticsService.statistics(owner);
+            assertThat(scope.statementCount()).isEqualTo(1);
+            assertThat(statistics.total()).isEqualTo(BOARD_SIZE - 1);
+            assertThat(statistics.byStatus())
+                .containsEntry(TaskStatus.TODO, BOARD_SIZE - 2L)
+                .containsEntry(TaskStatus.DONE, 1L);
+        }
+        assertThat(boardStatisticsService.check(owner).drift()).isEmpty();
+    }
+}
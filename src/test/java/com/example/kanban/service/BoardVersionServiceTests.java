@@ -0,0 +1,69 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class BoardVersionServiceTests {
+
+    @Autowired
+    private BoardVersionService boardVersionService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void racingFirstIncrementFailsAsARetryableConflict() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "version");
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        CompletableFuture<Long> winner = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(status -> {
+            long version = boardVersionService.increment(owner);
+            inserted.countDown();
+            await(commit);
+            return version;
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Long> loser = CompletableFuture.supplyAsync(() ->
+            transactionTemplate.execute(status -> boardVersionService.increment(owner))
+        );
+        Thread.sleep(200);
+        commit.countDown();
+
+        assertThat(winner.get(10, TimeUnit.SECONDS)).isEqualTo(1);
+        // The loser's update missed the uncommitted row and its insert hit the winner's key.
+        assertThatThrownBy(() -> loser.get(10, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .cause()
+            .isInstanceOf(ConcurrencyFailureException.class);
+
+        Long retried = transactionTemplate.execute(status -> boardVersionService.increment(owner));
+        assertThat(retried).isEqualTo(2);
+        assertThat(boardVersionService.currentVersion(owner)).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.config.ExportProperties;
+import com.example.kanban.dto.ExportJobResponse;
+import com.example.kanban.exception.ServiceBusyException;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import jakarta.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest(properties = "kanban.export.max-retained-jobs-per-owner=2")
+class PdfExportJobServiceTests {
+
+    @Autowired
+    private PdfExportJobService pdfExportJobService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private ExportProperties exportProperties;
+
+    @MockitoBean
+    private PdfExportService pdfExportService;
+
+    @Test
+    void retainedJobsAreCappedPerOwner() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "export");
+        UserAccount other = TestAccounts.create(userAccountRepository, "export-other");
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return writeUniquePdf(invocation.getArgument(1));
+        }).when(pdfExportService).exportTasks(any(UserAccount.class), any(OutputStream.class));
+
+        ExportJobResponse first = pdfExportJobService.submit(owner);
+        ExportJobResponse second = pdfExportJobService.submit(owner);
+        assertThatThrownBy(() -> pdfExportJobService.submit(owner)).isInstanceOf(ServiceBusyException.class);
+
+        release.countDown();
+        awaitCompleted(owner, first.id());
+        awaitCompleted(owner, second.id());
+        byte[] firstPdf = download(owner, first.id());
+
+        ExportJobResponse third = pdfExportJobService.submit(owner);
+        assertThatThrownBy(() -> pdfExportJobService.getJob(owner, first.id()))
+            .isInstanceOf(EntityNotFoundException.class);
+        assertThat(spooledFiles()).noneMatch(file -> Arrays.equals(read(file), firstPdf));
+        assertThat(pdfExportJobService.getJob(owner, second.id()).status()).isEqualTo("COMPLETED");
+        awaitCompleted(owner, third.id());
+
+        ExportJobResponse unrelated = pdfExportJobService.submit(other);
+        awaitCompleted(other, unrelated.id());
+        assertThat(pdfExportJobService.getJob(owner, second.id()).status()).isEqualTo("COMPLETED");
+    }
+
+    @Test
+    void jobsBeingDownloadedAreNotEvicted() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "export-download");
+        doAnswer(invocation -> writeUniquePdf(invocation.getArgument(1)))
+            .when(pdfExportService).exportTasks(any(UserAccount.class), any(OutputStream.class));
+
+        ExportJobResponse first = pdfExportJobService.submit(owner);
+        awaitCompleted(owner, first.id());
+        ExportJobResponse second = pdfExportJobService.submit(owner);
+        awaitCompleted(owner, second.id());
+
+        try (InputStream firstDownload = pdfExportJobService.openResult(owner, first.id()).orElseThrow()) {
+            ExportJobResponse third = pdfExportJobService.submit(owner);
+            assertThatThrownBy(() -> pdfExportJobService.getJob(owner, second.id()))
+                .isInstanceOf(EntityNotFoundException.class);
+            awaitCompleted(owner, third.id());
+
+            try (InputStream thirdDownload = pdfExportJobService.openResult(owner, third.id()).orElseThrow()) {
+                assertThatThrownBy(() -> pdfExportJobService.submit(owner)).isInstanceOf(ServiceBusyException.class);
+                assertThat(thirdDownload.readAllBytes()).isNotEmpty();
+            }
+            assertThat(firstDownload.readAllBytes()).isNotEmpty();
+        }
+
+        ExportJobResponse fourth = pdfExportJobService.submit(owner);
+        assertThatThrownBy(() -> pdfExportJobService.getJob(owner, first.id()))
+            .isInstanceOf(EntityNotFoundException.class);
+        awaitCompleted(owner, fourth.id());
+    }
+
+    private static Object writeUniquePdf(OutputStream outputStream) throws IOException {
+        outputStream.write(UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII));
+        return null;
+    }
+
+    private byte[] download(UserAccount owner, String jobId) throws IOException {
+        try (InputStream result = pdfExportJobService.openResult(owner, jobId).orElseThrow()) {
+            return result.readAllBytes();
+        }
+    }
+
+    private List<Path> spooledFiles() throws IOException {
+        try (Stream<Path> files = Files.list(Path.of(exportProperties.getSpoolDirectory()))) {
+            return files.toList();
+        }
+    }
+
+    private static byte[] read(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException ex) {
+            return new byte[0];
+        }
+    }
+
+    private void awaitCompleted(UserAccount owner, String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!"COMPLETED".equals(pdfExportJobService.getJob(owner, jobId).status())) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.KanbanTaskRepository;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.sql.SqlAccounting;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Moves in SPARSE mode checked against a plain list model of each column: responses carry dense
+ * positions, stored ranks stay strictly increasing, and an exhausted gap rebalances the column.
+ * A small gap makes exhaustion reachable in a few moves.
+ */
+@SpringBootTest(properties = {"kanban.tasks.ordering.mode=SPARSE", "kanban.tasks.ordering.gap=8"})
+class SparseOrderingTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private KanbanTaskRepository kanbanTaskRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UserAccount owner;
+    private final Map<TaskStatus, List<Long>> model = new EnumMap<>(TaskStatus.class);
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "sparse");
+        for (TaskStatus status : TaskStatus.values()) {
+            model.put(status, new ArrayList<>());
+        }
+        for (int i = 0; i < 5; i++) {
+            TaskResponse task = taskService.createTask(owner, new TaskRequest("Tarefa " + i, null, null, null));
+            assertThat(task.position()).isEqualTo(i);
+            model.get(TaskStatus.TODO).add(task.id());
+        }
+    }
+
+    @Test
+    void sameColumnMovesReturnDensePositions() {
+        List<Long> todo = model.get(TaskStatus.TODO);
+        move(todo.get(4), TaskStatus.TODO, 1);
+        move(todo.get(0), TaskStatus.TODO, 3);
+        move(todo.get(2), TaskStatus.TODO, 0);
+        move(todo.get(1), TaskStatus.TODO, null);
+        move(todo.get(3), TaskStatus.TODO, 99);
+    }
+
+    @Test
+    void crossColumnMovesReturnDensePositions() {
+        List<Long> todo = model.get(TaskStatus.TODO);
+        move(todo.get(0), TaskStatus.DONE, 0);
+        move(todo.get(0), TaskStatus.DONE, 0);
+        move(todo.get(1), TaskStatus.DONE, 1);
+        move(model.get(TaskStatus.DONE).get(0), TaskStatus.TODO, 1);
+    }
+
+    @Test
+    void exhaustedGapRebalancesColumn() {
+        DistributionSummary rewrites = meterRegistry.get("kanban.tasks.rows.rewritten").tag("operation", "move").summary();
+        double rowsBefore = rewrites.totalAmount();
+        long movesBefore = rewrites.count();
+
+        // Ranks 8..40 step 8: halving the gap after the first task runs out within a few moves.
+        List<Long> todo = model.get(TaskStatus.TODO);
+        for (int i = 0; i < 8; i++) {
+            move(todo.get(todo.size() - 1), TaskStatus.TODO, 1);
+        }
+
+        assertThat(rewrites.count() - movesBefore).isEqualTo(8);
+        assertThat(rewrites.totalAmount() - rowsBefore).isGreaterThan(8);
+    }
+
+    @Test
+    void middleMoveSeeksNeighboursInsteadOfSkippingRows() {
+        List<Long> todo = model.get(TaskStatus.TODO);
+        taskService.listTasks(owner);
+
+        try (SqlAccounting.Scope scope = SqlAccounting.open("move")) {
+            move(todo.get(4), TaskStatus.TODO, 3);
+            assertThat(scope.repeatedStatements(1).keySet()).noneMatch(sql -> sql.toLowerCase().contains("offset"));
+        }
+    }
+
+    @Test
+    void driftedCountersDoNotSteerPlacement() {
+        int drifted = jdbcTemplate.update(
+            "update board_statistics set todo_count = todo_count + 7, in_progress_count = in_progress_count + 2 where owner_id = ?",
+            owner.getId()
+        );
+        assertThat(drifted).isEqualTo(1);
+        List<Long> todo = model.get(TaskStatus.TODO);
+
+        move(todo.get(0), TaskStatus.TODO, null);
+        move(todo.get(1), TaskStatus.TODO, 3);
+        move(todo.get(2), TaskStatus.IN_PROGRESS, null);
+        evictBoard();
+        move(todo.get(0), TaskStatus.TODO, null);
+        evictBoard();
+        move(todo.get(1), TaskStatus.TODO, 2);
+        evictBoard();
+        move(todo.get(2), TaskStatus.IN_PROGRESS, 1);
+
+        evictBoard();
+        TaskResponse created = taskService.createTask(owner, new TaskRequest("Nova", null, null, null));
+        assertThat(created.position()).isEqualTo(todo.size());
+    }
+
+    private void evictBoard() {
+        BoardWrites writes = new BoardWrites();
+        writes.repositioned();
+        boardCache.apply(owner.getId(), writes);
+    }
+
+    private void move(Long taskId, TaskStatus target, Integer newPosition) {
+        TaskResponse moved = taskService.moveTask(taskId, owner, new TaskMoveRequest(target, newPosition));
+
+        model.values().forEach(column -> column.remove(taskId));
+        List<Long> column = model.get(target);
+        int index = newPosition == null ? column.size() : Math.max(0, Math.min(newPosition, column.size()));
+        column.add(index, taskId);
+
+        assertThat(moved.status()).isEqualTo(target);
+        assertThat(moved.position()).isEqualTo(index);
+        for (TaskStatus status : TaskStatus.values()) {
+            assertThat(taskService.listTasksByStatus(owner, status))
+                .extracting(TaskResponse::id)
+                .containsExactlyElementsOf(model.get(status));
+            List<KanbanTask> stored = kanbanTaskRepository.findAllByOwnerAndStatusOrderByPosition(owner, status);
+            assertThat(stored).extracting(KanbanTask::getId).containsExactlyElementsOf(model.get(status));
+            assertThat(stored).extracting(KanbanTask::getPosition).isSortedAccordingTo(Integer::compare).doesNotHaveDuplicates();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.KanbanTaskRepository;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.security.JwtService;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskBatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private KanbanTaskRepository kanbanTaskRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Test
+    void missingTaskRollsBackTheWholeBatchAndNamesItsIndex() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "batch");
+        TaskResponse first = taskService.createTask(owner, new TaskRequest("Primeira", null, null, null));
+        TaskResponse second = taskService.createTask(owner, new TaskRequest("Segunda", null, null, null));
+        List<TaskResponse> before = taskService.listTasks(owner);
+
+        batch(owner, """
+            {"operations":[
+              {"type":"CREATE","task":{"title":"Nova"}},
+              {"type":"MOVE","taskId":%d,"move":{"status":"DONE","newPosition":0}},
+              {"type":"UPDATE","taskId":%d,"changes":{"title":"Renomeada"}},
+              {"type":"DELETE","taskId":%d}
+            ]}
+            """.formatted(first.id(), second.id(), Long.MAX_VALUE))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Operacao 3: Tarefa nao encontrada"));
+
+        assertThat(taskService.listTasks(owner)).isEqualTo(before);
+        assertThat(kanbanTaskRepository.findById(first.id())).get()
+            .extracting(KanbanTask::getStatus)
+            .isEqualTo(TaskStatus.TODO);
+        assertThat(kanbanTaskRepository.findById(second.id())).get()
+            .extracting(KanbanTask::getTitle)
+            .isEqualTo("Segunda");
+        assertThat(kanbanTaskRepository.countByOwnerAndStatus(owner, TaskStatus.TODO)).isEqualTo(2);
+        assertThat(kanbanTaskRepository.countByOwnerAndStatus(owner, TaskStatus.DONE)).isZero();
+    }
+
+    @Test
+    void incompleteOperationIsRejectedWithItsIndex() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "batch");
+        TaskResponse task = taskService.createTask(owner, new TaskRequest("Unica", null, null, null));
+
+        batch(owner, """
+            {"operations":[
+              {"type":"CREATE","task":{"title":"Nova"}},
+              {"type":"MOVE","taskId":%d}
+            ]}
+            """.formatted(task.id()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Operacao 1: campos obrigatorios ausentes para MOVE"));
+
+        assertThat(taskService.listTasks(owner)).extracting(TaskResponse::id).containsExactly(task.id());
+    }
+
+    private ResultActions batch(UserAccount owner, String body) throws Exception {
+        return mockMvc.perform(post("/api/tasks/batch")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(owner))
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(body));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskChangesResponse;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.sql.SqlAccounting;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TaskChangesTests {
+
+    private static final int BOARD_SIZE = 6;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount owner;
+    private List<TaskResponse> tasks;
+    private String watermark;
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "sync");
+        tasks = new ArrayList<>();
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            tasks.add(taskService.createTask(owner, new TaskRequest("Tarefa " + i, null, null, null)));
+        }
+        watermark = taskService.listChanges(owner, null).watermark();
+    }
+
+    @Test
+    void deltaCarriesDensePositionsAndTombstonesInOneQueryEach() {
+        taskService.moveTask(tasks.get(5).id(), owner, new TaskMoveRequest(TaskStatus.TODO, 1));
+        taskService.moveTask(tasks.get(0).id(), owner, new TaskMoveRequest(TaskStatus.DONE, 0));
+        taskService.moveTask(tasks.get(1).id(), owner, new TaskMoveRequest(TaskStatus.DONE, 1));
+        taskService.deleteTask(tasks.get(2).id(), owner);
+
+        TaskChangesResponse changes;
+        try (SqlAccounting.Scope scope = SqlAccounting.open("changes")) {
+            changes = taskService.listChanges(owner, watermark);
+            // Version, changed rows with their dense index, tombstones.
+            assertThat(scope.statementCount()).isEqualTo(3);
+        }
+        assertThat(changes.resyncRequired()).isFalse();
+        assertThat(changes.deletedIds()).containsExactly(tasks.get(2).id());
+        assertThat(changes.changed())
+            .extracting(TaskResponse::id, TaskResponse::status, TaskResponse::position)
+            .contains(
+                tuple(tasks.get(5).id(), TaskStatus.TODO, 0),
+                tuple(tasks.get(0).id(), TaskStatus.DONE, 0),
+                tuple(tasks.get(1).id(), TaskStatus.DONE, 1)
+            );
+        assertThat(changes.changed()).allSatisfy(task ->
+            assertThat(taskService.listTasksByStatus(owner, task.status()).get(task.position()).id()).isEqualTo(task.id())
+        );
+
+        TaskChangesResponse next = taskService.listChanges(owner, changes.watermark());
+        assertThat(next.changed()).isEmpty();
+        assertThat(next.deletedIds()).isEmpty();
+    }
+
+    @Test
+    void expiredWatermarkRequiresResync() {
+        long revision = SyncWatermark.decode(watermark).revision();
+        String expired = new SyncWatermark(revision, Instant.now().minus(Duration.ofDays(8))).encode();
+        taskService.deleteTask(tasks.get(0).id(), owner);
+
+        TaskChangesResponse changes = taskService.listChanges(owner, expired);
+
+        assertThat(changes.resyncRequired()).isTrue();
+        assertThat(changes.deletedIds()).isEmpty();
+        assertThat(changes.changed()).hasSize(BOARD_SIZE - 1);
+    }
+
+    @Test
+    void watermarkAheadOfTheBoardRequiresResync() {
+        long revision = SyncWatermark.decode(watermark).revision();
+        String ahead = new SyncWatermark(revision + 10, Instant.now()).encode();
+
+        TaskChangesResponse changes = taskService.listChanges(owner, ahead);
+
+        assertThat(changes.resyncRequired()).isTrue();
+        assertThat(changes.changed()).hasSize(BOARD_SIZE);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.KanbanTask;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.KanbanTaskRepository;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.security.JwtService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskConcurrencyTests {
+
+    private static final int CARDS = 10;
+    private static final int THREADS = 8;
+    private static final int MOVES_PER_THREAD = 25;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private KanbanTaskRepository kanbanTaskRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoSpyBean
+    private BoardStatisticsService boardStatisticsService;
+
+    @Test
+    void concurrentMovesLeaveEveryColumnDense() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "concurrent");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < CARDS; i++) {
+            ids.add(taskService.createTask(owner, new TaskRequest("Tarefa " + i, null, null, null)).id());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<CompletableFuture<Void>> movers = IntStream.range(0, THREADS)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    await(start);
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int move = 0; move < MOVES_PER_THREAD; move++) {
+                        Long taskId = ids.get(random.nextInt(ids.size()));
+                        TaskStatus target = random.nextInt(4) == 0 ? TaskStatus.IN_PROGRESS : TaskStatus.TODO;
+                        taskService.moveTask(taskId, owner, new TaskMoveRequest(target, random.nextInt(CARDS)));
+                    }
+                }, pool))
+                .toList();
+            start.countDown();
+            CompletableFuture.allOf(movers.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        List<TaskResponse> board = taskService.listTasks(owner);
+        assertThat(board).extracting(TaskResponse::id).containsExactlyInAnyOrderElementsOf(ids);
+        Map<TaskStatus, List<Integer>> positions = board.stream().collect(Collectors.groupingBy(
+            TaskResponse::status,
+            Collectors.mapping(TaskResponse::position, Collectors.toList())
+        ));
+        positions.values().forEach(column ->
+            assertThat(column).containsExactlyElementsOf(IntStream.range(0, column.size()).boxed().toList())
+        );
+        Map<TaskStatus, List<Integer>> stored = kanbanTaskRepository.findAllById(ids).stream().collect(Collectors.groupingBy(
+            KanbanTask::getStatus,
+            Collectors.mapping(KanbanTask::getPosition, Collectors.toList())
+        ));
+        stored.values().forEach(column -> assertThat(column).doesNotHaveDuplicates());
+    }
+
+    @Test
+    void exhaustedRetriesAnswerConflict() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "conflict");
+        TaskResponse task = taskService.createTask(owner, new TaskRequest("Disputada", null, null, null));
+        BoardStatisticsService statistics = AopTestUtils.getUltimateTargetObject(boardStatisticsService);
+        clearInvocations(statistics);
+        doThrow(new ConcurrencyFailureException("Versao desatualizada")).when(statistics).apply(any(), any());
+
+        mockMvc.perform(patch("/api/tasks/{id}/move", task.id())
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(owner))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DONE\",\"newPosition\":0}"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("conflict"))
+            .andExpect(jsonPath("$.message").value("A tarefa foi alterada por outra operacao, tente novamente"));
+
+        verify(statistics, times(3)).apply(any(), any());
+        assertThat(kanbanTaskRepository.findById(task.id())).get()
+            .extracting(KanbanTask::getStatus)
+            .isEqualTo(TaskStatus.TODO);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.sql.SqlAccounting;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TaskExportServiceTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private BoardVersionService boardVersionService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount owner;
+    private TaskResponse done;
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "export");
+        done = taskService.createTask(owner, new TaskRequest("Tarefa 0", null, null, null));
+        taskService.createTask(owner, new TaskRequest("Tarefa 1", null, null, null));
+        taskService.createTask(owner, new TaskRequest("Relatorio, \"final\"", "linha 1\nlinha 2", null, null));
+        taskService.moveTask(done.id(), owner, new TaskMoveRequest(TaskStatus.DONE, 0));
+    }
+
+    @Test
+    void csvQuotesFieldsAndReadsTheBoardInOneCursor() throws IOException {
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        try (SqlAccounting.Scope scope = SqlAccounting.open("export-csv")) {
+            taskExportService.writeCsv(owner, csv);
+            assertThat(scope.statementCount()).isEqualTo(1);
+        }
+        String body = csv.toString(StandardCharsets.UTF_8);
+        assertThat(body).startsWith("id,title,description,status,priority,position,dueDate,createdAt,updatedAt\r\n");
+        assertThat(body).contains(",\"Relatorio, \"\"final\"\"\",\"linha 1\nlinha 2\",TODO,");
+        assertThat(body).contains(done.id() + ",Tarefa 0,,DONE,");
+    }
+
+    @Test
+    void ndjsonWritesOneLinePerTaskWithDensePositions() throws IOException {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        try (SqlAccounting.Scope scope = SqlAccounting.open("export-ndjson")) {
+            taskExportService.writeNdjson(owner, ndjson);
+            assertThat(scope.statementCount()).isEqualTo(1);
+        }
+        assertThat(ndjson.toString(StandardCharsets.UTF_8).lines())
+            .hasSize(3)
+            .allMatch(line -> line.startsWith("{") && line.endsWith("}"))
+            .first().asString().contains("\"id\":" + done.id(), "\"position\":0");
+    }
+
+    @Test
+    void taskMovedDuringTheScanIsExportedOnce() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        ExecutorService mover = Executors.newSingleThreadExecutor();
+        try {
+            taskExportService.forEachTask(owner, task -> {
+                if (ids.isEmpty()) {
+                    TaskResponse todo = taskService.listTasksByStatus(owner, TaskStatus.TODO).get(0);
+                    try {
+                        mover.submit(() -> taskService.moveTask(todo.id(), owner, new TaskMoveRequest(TaskStatus.DONE, 1)))
+                            .get();
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }
+                ids.add(task.id());
+            });
+        } finally {
+            mover.shutdown();
+        }
+        assertThat(ids).hasSize(3).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void sinkIsOpenedAtTheRevisionTheBoardIsReadAt() throws IOException {
+        long revision = boardVersionService.currentVersion(owner);
+        long[] opened = {-1};
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        taskExportService.writeNdjson(owner, at -> {
+            opened[0] = at;
+            return ndjson;
+        });
+        assertThat(opened[0]).isEqualTo(revision);
+        assertThat(ndjson.toString(StandardCharsets.UTF_8).lines()).hasSize(3);
+
+        try (SqlAccounting.Scope scope = SqlAccounting.open("export-not-modified")) {
+            taskExportService.writeCsv(owner, at -> null);
+            assertThat(scope.statementCount()).isEqualTo(1);
+        }
+    }
+}
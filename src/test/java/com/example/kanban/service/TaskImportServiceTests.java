@@ -0,0 +1,61 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskImportError;
+import com.example.kanban.dto.TaskImportResponse;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = {
+    "kanban.tasks.import.max-record-length=256",
+    "kanban.tasks.import.max-reported-errors=2"
+})
+class TaskImportServiceTests {
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Test
+    void csvKeepsQuotedSeparatorsAndReportsRejectedRecordsByLine() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "import");
+        String csv = "title,description,priority\r\n"
+            + "\"Titulo, com virgula\",\"Diz \"\"oi\"\"\nem duas linhas\",HIGH\r\n"
+            + "Simples,,low\r\n"
+            + "x".repeat(300) + ",,\r\n"
+            + ",sem titulo,\r\n"
+            + "Ruim,,URGENTE\r\n";
+
+        TaskImportResponse response = taskImportService.importTasks(
+            owner, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), TaskImportService.Format.CSV
+        );
+
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.rejected()).isEqualTo(3);
+        assertThat(response.errors()).extracting(TaskImportError::line).containsExactly(5L, 6L);
+        assertThat(response.errors().get(0).message()).isEqualTo("Registro excede 256 caracteres");
+        assertThat(response.errors().get(1).fieldErrors()).containsKey("title");
+        assertThat(response.errorsTruncated()).isTrue();
+        assertThat(taskService.listTasks(owner))
+            .extracting(TaskResponse::title, TaskResponse::description, TaskResponse::priority)
+            .containsExactly(
+                tuple("Titulo, com virgula", "Diz \"oi\"\nem duas linhas", TaskPriority.HIGH),
+                tuple("Simples", null, TaskPriority.LOW)
+            );
+    }
+}
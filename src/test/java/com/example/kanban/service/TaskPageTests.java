@@ -0,0 +1,73 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskPageResponse;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TaskPageTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount owner;
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "page");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(taskService.createTask(owner, new TaskRequest("Tarefa " + i, null, null, null)).id());
+        }
+        taskService.moveTask(ids.get(0), owner, new TaskMoveRequest(TaskStatus.IN_PROGRESS, 0));
+        taskService.moveTask(ids.get(1), owner, new TaskMoveRequest(TaskStatus.IN_PROGRESS, 0));
+        taskService.moveTask(ids.get(2), owner, new TaskMoveRequest(TaskStatus.IN_PROGRESS, 1));
+        taskService.moveTask(ids.get(3), owner, new TaskMoveRequest(TaskStatus.DONE, 0));
+        taskService.moveTask(ids.get(4), owner, new TaskMoveRequest(TaskStatus.DONE, 0));
+        taskService.moveTask(ids.get(7), owner, new TaskMoveRequest(TaskStatus.TODO, 0));
+    }
+
+    @Test
+    void cursorWalksTheWholeBoardAcrossColumnBoundaries() {
+        List<TaskResponse> board = taskService.listTasks(owner);
+        for (int limit = 1; limit <= 4; limit++) {
+            assertThat(walk(null, limit)).as("limit %d", limit).containsExactlyElementsOf(board);
+        }
+    }
+
+    @Test
+    void cursorWalksOneColumn() {
+        for (TaskStatus status : TaskStatus.values()) {
+            assertThat(walk(status, 2)).as("%s", status)
+                .containsExactlyElementsOf(taskService.listTasksByStatus(owner, status));
+        }
+    }
+
+    private List<TaskResponse> walk(TaskStatus status, int limit) {
+        List<TaskResponse> items = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageResponse page = taskService.listTasksPage(owner, status, cursor, limit);
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(limit);
+            items.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return items;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.kanban.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.dto.TaskSearchHit;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.sql.SqlAccounting;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TaskSearchIndexTests {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount owner;
+
+    @BeforeEach
+    void createOwner() {
+        owner = TestAccounts.create(userAccountRepository, "search");
+    }
+
+    @Test
+    void indexFollowsWritesWithoutQueries() {
+        TaskResponse first = taskService.createTask(owner, new TaskRequest("Tarefa 1", null, null, null));
+        taskService.createTask(owner, new TaskRequest("Tarefa 2", null, null, null));
+        taskService.searchTasks(owner, "tarefa", 0, 20);
+        TaskResponse meeting = taskService.createTask(
+            owner, new TaskRequest("Reuni\u00e3o de planejamento", "Revisar or\u00e7amento", null, null)
+        );
+        taskService.deleteTask(first.id(), owner);
+
+        try (SqlAccounting.Scope scope = SqlAccounting.open("search")) {
+            assertThat(taskService.searchTasks(owner, "REUNIAO plan", 0, 20).items())
+                .extracting(TaskSearchHit::id)
+                .containsExactly(meeting.id());
+            assertThat(taskService.searchTasks(owner, "orcamento", 0, 20).total()).isEqualTo(1);
+            assertThat(taskService.searchTasks(owner, "tarefa", 0, 20).total()).isEqualTo(1);
+            assertThat(scope.statementCount()).isZero();
+        }
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        TaskResponse inDescription = taskService.createTask(owner, new TaskRequest("Backlog", "revisar contrato", null, null));
+        TaskResponse inTitle = taskService.createTask(owner, new TaskRequest("Contrato anual", null, null, null));
+
+        assertThat(taskService.searchTasks(owner, "contrato", 0, 20).items())
+            .extracting(TaskSearchHit::id)
+            .containsExactly(inTitle.id(), inDescription.id());
+    }
+}
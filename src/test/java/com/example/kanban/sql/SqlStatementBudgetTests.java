@@ -0,0 +1,75 @@
+package com.example.kanban.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskMoveRequest;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskStatus;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.service.TaskService;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class SqlStatementBudgetTests {
+
+    private static final int BOARD_SIZE = 30;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private UserAccount owner;
+    private List<TaskResponse> tasks;
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "sql");
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            tasks.add(taskService.createTask(owner, new TaskRequest("Tarefa " + i, null, null, null)));
+        }
+    }
+
+    @Test
+    void listingTheBoardLoadsItOnceRegardlessOfSize() {
+        try (SqlAccounting.Scope scope = SqlAccounting.open("list")) {
+            assertThat(taskService.listTasks(owner)).hasSize(BOARD_SIZE);
+            // Board rows between two version reads.
+            assertThat(scope.statementCount()).isEqualTo(3);
+            assertThat(scope.breakdown()).containsExactly("TaskService.listTasks=3");
+        }
+        try (SqlAccounting.Scope scope = SqlAccounting.open("cached")) {
+            assertThat(taskService.listTasks(owner)).hasSize(BOARD_SIZE);
+            assertThat(scope.statementCount()).isZero();
+        }
+    }
+
+    @Test
+    void movingACardStaysWithinBudgetAndRepeatsNoStatement() {
+        TaskResponse card = tasks.get(BOARD_SIZE / 2);
+        try (SqlAccounting.Scope scope = SqlAccounting.open("move")) {
+            taskService.moveTask(card.id(), owner, new TaskMoveRequest(TaskStatus.IN_PROGRESS, 0));
+            assertThat(scope.statementCount()).isLessThanOrEqualTo(10);
+            assertThat(scope.repeatedStatements(3)).isEmpty();
+        }
+    }
+
+    @Test
+    void nothingIsCountedOutsideAScope() {
+        taskService.listTasks(owner);
+        try (SqlAccounting.Scope scope = SqlAccounting.open("empty")) {
+            assertThat(scope.statementCount()).isZero();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.kanban.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.dto.TaskResponse;
+import com.example.kanban.model.TaskPriority;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.security.JwtService;
+import com.example.kanban.service.TaskService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class BinaryEncodingTests {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Test
+    void binaryEncodingsDecodeToTheJsonPayload() throws Exception {
+        UserAccount owner = TestAccounts.create(userAccountRepository, "encoding");
+        taskService.createTask(owner, new TaskRequest("Com prazo", "Descricao", LocalDate.of(2026, 3, 1), TaskPriority.HIGH));
+        taskService.createTask(owner, new TaskRequest("Sem prazo", null, null, null));
+
+        List<TaskResponse> json = board(owner, MediaType.APPLICATION_JSON, objectMapper.getFactory());
+        assertThat(json).hasSize(2);
+        assertThat(board(owner, MediaType.APPLICATION_CBOR, new CBORFactory())).isEqualTo(json);
+        assertThat(board(owner, SMILE, new SmileFactory())).isEqualTo(json);
+    }
+
+    private List<TaskResponse> board(UserAccount owner, MediaType mediaType, JsonFactory factory) throws Exception {
+        byte[] body = mockMvc.perform(get("/api/tasks")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(owner))
+                .accept(mediaType))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(mediaType))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        ObjectMapper mapper = objectMapper.copyWith(factory);
+        return List.of(mapper.readValue(body, TaskResponse[].class));
+    }
+}
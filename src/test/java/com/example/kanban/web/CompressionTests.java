@@ -0,0 +1,96 @@
+package com.example.kanban.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.kanban.TestAccounts;
+import com.example.kanban.dto.TaskRequest;
+import com.example.kanban.model.UserAccount;
+import com.example.kanban.repository.UserAccountRepository;
+import com.example.kanban.security.JwtService;
+import com.example.kanban.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Runs against the embedded Tomcat, whose connector does the compressing; MockMvc never reaches
+ * it. The JDK client is used because it leaves gzipped bodies as they came.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CompressionTests {
+
+    private static final int TASKS = 40;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private UserAccount owner;
+
+    @BeforeEach
+    void seedBoard() {
+        owner = TestAccounts.create(userAccountRepository, "gzip");
+        for (int i = 0; i < TASKS; i++) {
+            taskService.createTask(owner, new TaskRequest("Tarefa " + i, "Descricao da tarefa numero " + i, null, null));
+        }
+    }
+
+    @Test
+    void boardAboveTheThresholdIsGzipped() throws Exception {
+        HttpResponse<InputStream> response = get("/api/tasks");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        assertThat(response.headers().firstValue(HttpHeaders.ETAG)).get().asString().startsWith("W/");
+        try (InputStream body = new GZIPInputStream(response.body())) {
+            JsonNode board = objectMapper.readTree(body);
+            assertThat(board.size()).isEqualTo(TASKS);
+        }
+    }
+
+    @Test
+    void streamedExportsAreGzipped() throws Exception {
+        for (String format : new String[] {"ndjson", "csv"}) {
+            HttpResponse<InputStream> response = get("/api/tasks/export/" + format);
+
+            assertThat(response.statusCode()).as(format).isEqualTo(200);
+            assertThat(response.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).as(format).hasValue("gzip");
+            try (InputStream body = new GZIPInputStream(response.body())) {
+                String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+                assertThat(text.lines()).as(format).hasSizeGreaterThanOrEqualTo(TASKS);
+            }
+        }
+    }
+
+    private HttpResponse<InputStream> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtService.generateToken(owner))
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+    }
+}